@@ -0,0 +1,90 @@
+package com.crowdin.cli.utils;
+
+import com.crowdin.cli.client.LanguageMapping;
+import com.crowdin.client.languages.model.Language;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering of a translation pattern for every language with the template engine
+ * and with the former chain of nine {@code String.replaceAll} calls.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlaceholderUtilBenchmark {
+
+    private static final String TRANSLATION = "/locales/%two_letters_code%/values-%android_code%/%locale_with_underscore%.xml";
+
+    private PlaceholderUtil placeholderUtil;
+    private LanguageMapping languageMapping;
+    private List<Language> languages;
+
+    @Setup
+    public void setUp() {
+        languages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Language language = new Language();
+            language.setId("l" + i);
+            language.setName("Language " + i);
+            language.setLocale("l" + i + "-LL");
+            language.setTwoLettersCode("l" + i);
+            language.setThreeLettersCode("ll" + i);
+            language.setAndroidCode("l" + i + "-rLL");
+            language.setOsxLocale("l" + i + "_LL");
+            language.setOsxCode("l" + i + ".lproj");
+            languages.add(language);
+        }
+        placeholderUtil = new PlaceholderUtil(languages, languages, "/proj/");
+        languageMapping = LanguageMapping.fromConfigFileLanguageMapping(null);
+    }
+
+    @Benchmark
+    public void template(Blackhole blackhole) {
+        PlaceholderTemplate template = PlaceholderUtil.parseLanguagePlaceholders(TRANSLATION);
+        for (Language language : languages) {
+            blackhole.consume(placeholderUtil.replaceLanguageDependentPlaceholders(template, languageMapping, language));
+        }
+    }
+
+    @Benchmark
+    public void replaceAll(Blackhole blackhole) {
+        for (Language language : languages) {
+            blackhole.consume(replaceAll(TRANSLATION, languageMapping, language));
+        }
+    }
+
+    private static String replaceAll(String toFormat, LanguageMapping langMapping, Language lang) {
+        return toFormat
+            .replaceAll(PlaceholderUtil.PLACEHOLDER_LANGUAGE_ID, langMapping.getValueOrDefault(lang.getId(),
+                PlaceholderUtil.PLACEHOLDER_LANGUAGE_ID.replaceAll("%", ""), lang.getId()))
+            .replaceAll(PlaceholderUtil.PLACEHOLDER_LANGUAGE, langMapping.getValueOrDefault(lang.getId(),
+                PlaceholderUtil.PLACEHOLDER_LANGUAGE.replaceAll("%", ""), langMapping.getValueOrDefault(
+                    lang.getId(), "name", lang.getName())))
+            .replaceAll(PlaceholderUtil.PLACEHOLDER_LOCALE, langMapping.getValueOrDefault(lang.getId(),
+                PlaceholderUtil.PLACEHOLDER_LOCALE.replaceAll("%", ""), lang.getLocale()))
+            .replaceAll(PlaceholderUtil.PLACEHOLDER_LOCALE_WITH_UNDERSCORE, langMapping.getValueOrDefault(lang.getId(),
+                PlaceholderUtil.PLACEHOLDER_LOCALE_WITH_UNDERSCORE.replaceAll("%", ""), lang.getLocale().replace("-", "_")))
+            .replaceAll(PlaceholderUtil.PLACEHOLDER_TWO_LETTERS_CODE, langMapping.getValueOrDefault(lang.getId(),
+                PlaceholderUtil.PLACEHOLDER_TWO_LETTERS_CODE.replaceAll("%", ""), lang.getTwoLettersCode()))
+            .replaceAll(PlaceholderUtil.PLACEHOLDER_THREE_LETTERS_CODE, langMapping.getValueOrDefault(lang.getId(),
+                PlaceholderUtil.PLACEHOLDER_THREE_LETTERS_CODE.replaceAll("%", ""), lang.getThreeLettersCode()))
+            .replaceAll(PlaceholderUtil.PLACEHOLDER_ANDROID_CODE, langMapping.getValueOrDefault(lang.getId(),
+                PlaceholderUtil.PLACEHOLDER_ANDROID_CODE.replaceAll("%", ""), lang.getAndroidCode()))
+            .replaceAll(PlaceholderUtil.PLACEHOLDER_OSX_LOCALE, langMapping.getValueOrDefault(lang.getId(),
+                PlaceholderUtil.PLACEHOLDER_OSX_LOCALE.replaceAll("%", ""), lang.getOsxLocale()))
+            .replaceAll(PlaceholderUtil.PLACEHOLDER_OSX_CODE, langMapping.getValueOrDefault(lang.getId(),
+                PlaceholderUtil.PLACEHOLDER_OSX_CODE.replaceAll("%", ""), lang.getOsxCode()));
+    }
+}
@@ -39,4 +39,12 @@ public class BaseCli {
     public static final String HTTP_PROXY_PORT_ENV = "HTTP_PROXY_PORT";
     public static final String HTTP_PROXY_USER_ENV = "HTTP_PROXY_USER";
     public static final String HTTP_PROXY_PASSWORD_ENV = "HTTP_PROXY_PASSWORD";
+
+    public static final String HTTP_TRANSPORT_ENV = "CROWDIN_HTTP_TRANSPORT";
+    public static final String HTTP_POOL_SIZE_ENV = "CROWDIN_HTTP_POOL_SIZE";
+    public static final String HTTP_IDLE_TIMEOUT_ENV = "CROWDIN_HTTP_IDLE_TIMEOUT";
+    public static final String HTTP_CONNECT_TIMEOUT_ENV = "CROWDIN_HTTP_CONNECT_TIMEOUT";
+    public static final String HTTP_READ_TIMEOUT_ENV = "CROWDIN_HTTP_READ_TIMEOUT";
+
+    public static final String CACHE_DIR_ENV = "CROWDIN_CACHE_DIR";
 }
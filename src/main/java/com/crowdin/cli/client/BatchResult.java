@@ -0,0 +1,29 @@
+package com.crowdin.cli.client;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of one item of a batched request: its result, or the exception the request for it failed with
+ * @param <R> represents model
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchResult<R> {
+
+    private final R result;
+    private final RuntimeException error;
+
+    public static <R> BatchResult<R> success(R result) {
+        return new BatchResult<>(result, null);
+    }
+
+    public static <R> BatchResult<R> failure(RuntimeException error) {
+        return new BatchResult<>(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -37,12 +37,22 @@ import java.net.Authenticator;
 import java.net.PasswordAuthentication;
 import java.net.URL;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public interface Client {
 
     CrowdinProjectFull downloadFullProject();
 
+    /**
+     * Downloads the project with the structure of one branch only. Branches are listed in full
+     * @param branchName name of the branch. If empty, the structure of the whole project is downloaded
+     * @return project with files and directories of the given branch. Without them if there is no such branch
+     */
+    CrowdinProjectFull downloadFullProject(String branchName);
+
     CrowdinProject downloadProjectWithLanguages();
 
     CrowdinProjectInfo downloadProjectInfo();
@@ -69,14 +79,51 @@ public interface Client {
 
     SourceString addSourceString(AddSourceStringRequest request);
 
+    /**
+     * Adds source strings in chunks, chunks are sent concurrently
+     * @return added strings or failures, in the order of requests
+     */
+    List<BatchResult<SourceString>> addSourceStrings(List<AddSourceStringRequest> requests);
+
     List<SourceString> listSourceString(Long fileId, String filter);
 
+    /**
+     * @return string or empty if there is no string with the id
+     */
+    Optional<SourceString> getSourceString(Long id);
+
+    /**
+     * Gets source strings in chunks, chunks are sent concurrently
+     * @return strings, empty ones for missing ids, or failures, in the order of ids
+     */
+    List<BatchResult<Optional<SourceString>>> getSourceStrings(List<Long> ids);
+
+    /**
+     * Same as {@link #listSourceString(Long, String)}, but pages are requested while the stream is consumed
+     */
+    Stream<SourceString> streamSourceString(Long fileId, String filter);
+
     void deleteSourceString(Long id);
 
+    /**
+     * Deletes source strings in chunks, chunks are sent concurrently
+     * @return deleted ids or failures, in the order of ids
+     */
+    List<BatchResult<Long>> deleteSourceStrings(List<Long> ids);
+
     SourceString editSourceString(Long sourceId, List<PatchRequest> requests);
 
+    /**
+     * Edits source strings in chunks, chunks are sent concurrently
+     * @param requests patches by ids of source strings
+     * @return edited strings or failures, in the order of ids
+     */
+    List<BatchResult<SourceString>> editSourceStrings(Map<Long, List<PatchRequest>> requests);
+
     List<Glossary> listGlossaries();
 
+    Stream<Glossary> streamGlossaries();
+
     Optional<Glossary> getGlossary(Long glossaryId);
 
     Glossary addGlossary(AddGlossaryRequest request);
@@ -85,6 +132,14 @@ public interface Client {
 
     List<Term> listTerms(Long glossaryId);
 
+    Stream<Term> streamTerms(Long glossaryId);
+
+    /**
+     * @param limit maximum number of terms to fetch, all terms if null
+     * @return future completed once the first page of terms is fetched. The rest is fetched while the stream is consumed
+     */
+    CompletableFuture<Stream<Term>> streamTermsAsync(Long glossaryId, Integer limit);
+
     GlossaryExportStatus startExportingGlossary(Long glossaryId, ExportGlossaryRequest request);
 
     GlossaryExportStatus checkExportingGlossary(Long glossaryId, String exportId);
@@ -105,26 +160,37 @@ public interface Client {
 
     URL downloadTm(Long tmId, String exportId);
 
+    /**
+     * @return listings of the project structure fetched so far and their sizes, and hedged requests, if there were any
+     */
+    Optional<String> getStatistics();
+
     static Client getDefault(String apiToken, String baseUrl, long projectId) {
+        return getDefault(apiToken, baseUrl, projectId, HttpTransport.fromEnvironment());
+    }
+
+    static Client getDefault(String apiToken, String baseUrl, long projectId, HttpTransport transport) {
         boolean isTesting = PropertiesBeanUtils.isUrlForTesting(baseUrl);
         String organization = PropertiesBeanUtils.getOrganization(baseUrl);
         Credentials credentials = (isTesting)
             ? new Credentials(apiToken, organization, baseUrl)
             : new Credentials(apiToken, organization);
+        Optional<ClientConfig.Host> proxyHost = Utils.proxyHost()
+            .map(pair -> new ClientConfig.Host(pair.getKey(), pair.getValue()));
+        Optional<ClientConfig.UsernamePasswordCredentials> proxyCredentials = Utils.proxyCredentials()
+            .map(pair -> new ClientConfig.UsernamePasswordCredentials(pair.getKey(), pair.getValue()));
+        String userAgent = Utils.buildUserAgent();
+        JacksonJsonTransformer jsonTransformer = new JacksonJsonTransformer();
         ClientConfig clientConfig = ClientConfig.builder()
-            .jsonTransformer(new JacksonJsonTransformer())
-            .userAgent(Utils.buildUserAgent())
+            .jsonTransformer(jsonTransformer)
+            .userAgent(userAgent)
+            .httpClient(transport
+                .buildHttpClient(apiToken, userAgent, jsonTransformer, proxyHost.orElse(null), proxyCredentials.orElse(null))
+                .orElse(null))
             .build();
-        Utils.proxyHost()
-            .map(pair -> new ClientConfig.Host(pair.getKey(), pair.getValue()))
-            .ifPresent(proxy -> {
-                clientConfig.setProxy(proxy);
-
-                System.setProperty("https.proxyHost", proxy.getHost());
-                System.setProperty("https.proxyPort", String.valueOf(proxy.getPort()));
-            });
-        Utils.proxyCredentials()
-            .map(pair -> new ClientConfig.UsernamePasswordCredentials(pair.getKey(), pair.getValue()))
+        proxyHost
+            .ifPresent(clientConfig::setProxy);
+        proxyCredentials
             .ifPresent(proxyCreds -> {
                 clientConfig.setProxyCreds(proxyCreds);
                 if (proxyCreds.getUsername() != null && proxyCreds.getPassword() != null) {
@@ -144,6 +210,6 @@ public interface Client {
                 }
             });
         com.crowdin.client.Client client = new com.crowdin.client.Client(credentials, clientConfig);
-        return new CrowdinClient(client, projectId);
+        return new SingleFlightClient(new CrowdinClient(client, projectId));
     }
 }
@@ -33,17 +33,33 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
 
 class CrowdinClient extends CrowdinClientCore implements Client {
 
+    /**
+     * Items per chunk of batched string requests. The api client has no batch endpoint for strings yet,
+     * so items of a chunk are sent one by one
+     */
+    private static final int STRINGS_CHUNK_SIZE = 100;
+
     private final com.crowdin.client.Client client;
     private final long projectId;
+    private final RequestHedger hedger = new RequestHedger();
+    private final Map<String, Integer> fetchedListings = Collections.synchronizedMap(new LinkedHashMap<>());
 
     public CrowdinClient(com.crowdin.client.Client client, long projectId) {
         this.client = client;
@@ -52,10 +68,15 @@ class CrowdinClient extends CrowdinClientCore implements Client {
 
     @Override
     public CrowdinProjectFull downloadFullProject() {
+        return this.downloadFullProject(null);
+    }
+
+    @Override
+    public CrowdinProjectFull downloadFullProject(String branchName) {
         CrowdinProjectFull project = new CrowdinProjectFull();
         this.populateProjectWithInfo(project);
         this.populateProjectWithLangs(project);
-        this.populateProjectWithStructure(project);
+        this.populateProjectWithStructure(project, branchName);
         return project;
     }
 
@@ -74,17 +95,55 @@ class CrowdinClient extends CrowdinClientCore implements Client {
         return project;
     }
 
-    private void populateProjectWithStructure(CrowdinProjectFull project) {
-        project.setFiles(executeRequestFullList((limit, offset) -> this.client.getSourceFilesApi()
-            .listFiles(this.projectId, null, null, null, limit, offset)));
-        project.setDirectories(executeRequestFullList((limit, offset) -> this.client.getSourceFilesApi()
-            .listDirectories(this.projectId, null, null, null, limit, offset)));
-        project.setBranches(executeRequestFullList((limit, offset) -> this.client.getSourceFilesApi()
-            .listBranches(this.projectId, null, limit, offset)));
+    private void populateProjectWithStructure(CrowdinProjectFull project, String branchName) {
+        Map<String, String> names = new ConcurrentHashMap<>();
+        project.setStructureLoaders(
+            () -> this.recordListing("branches", executeRequestFullList(this.hedger, (limit, offset) -> this.client.getSourceFilesApi()
+                .listBranches(this.projectId, null, limit, offset))),
+            () -> {
+                ProjectFiles files = new ProjectFiles(names);
+                this.inBranchScope(project, branchName, branchId -> executeRequestFullList(this.hedger, (limit, offset) -> this.client
+                    .getSourceFilesApi().listFiles(this.projectId, branchId, null, recursion(branchId), limit, offset), files::addFile));
+                return this.recordListing("files", files);
+            },
+            () -> {
+                ProjectDirectories directories = new ProjectDirectories(names);
+                this.inBranchScope(project, branchName, branchId -> executeRequestFullList(this.hedger, (limit, offset) -> this.client
+                    .getSourceFilesApi().listDirectories(this.projectId, branchId, null, recursion(branchId), limit, offset),
+                    directories::addDirectory));
+                return this.recordListing("directories", directories);
+            });
+    }
+
+    /**
+     * Listings scoped to a branch return only its top level unless recursion is requested
+     * @return recursion flag for a listing in the given branch, null for the whole project
+     */
+    private static Boolean recursion(Long branchId) {
+        return (branchId != null) ? Boolean.TRUE : null;
+    }
+
+    /**
+     * Runs the listing for the whole project if no branch is given, for the branch if it exists, and not at all otherwise
+     * @param listing accepts id of the branch. Null for the whole project
+     */
+    private void inBranchScope(CrowdinProjectFull project, String branchName, Consumer<Long> listing) {
+        if (StringUtils.isEmpty(branchName)) {
+            listing.accept(null);
+        } else {
+            project.findBranchByName(branchName)
+                .map(Branch::getId)
+                .ifPresent(listing);
+        }
+    }
+
+    private <T extends List<?>> T recordListing(String listing, T items) {
+        this.fetchedListings.merge(listing, items.size(), Integer::sum);
+        return items;
     }
 
     private void populateProjectWithLangs(CrowdinProject project) {
-        project.setSupportedLanguages(executeRequestFullList((limit, offset) -> this.client.getLanguagesApi()
+        project.setSupportedLanguages(executeRequestFullList(this.hedger, (limit, offset) -> this.client.getLanguagesApi()
             .listSupportedLanguages(limit, offset)));
     }
 
@@ -113,7 +172,7 @@ class CrowdinClient extends CrowdinClientCore implements Client {
 
     @Override
     public List<LanguageProgress> getProjectProgress(String languageId) {
-        return executeRequestFullList((limit, offset) -> this.client.getTranslationStatusApi()
+        return executeRequestFullList(this.hedger, (limit, offset) -> this.client.getTranslationStatusApi()
             .getProjectProgress(this.projectId, limit, offset, languageId));
     }
 
@@ -203,10 +262,42 @@ class CrowdinClient extends CrowdinClientCore implements Client {
             .getData());
     }
 
+    @Override
+    public List<BatchResult<SourceString>> addSourceStrings(List<AddSourceStringRequest> requests) {
+        return executeRequestBatch(requests, STRINGS_CHUNK_SIZE, this::addSourceString);
+    }
+
     @Override
     public List<SourceString> listSourceString(Long fileId, String filter) {
-        return executeRequestFullList((limit, offset) -> this.client.getSourceStringsApi()
-            .listSourceStrings(this.projectId, fileId, filter, limit, offset));
+        return executeRequestFullList(this.hedger, (limit, offset) -> this.client.getSourceStringsApi()
+            .listSourceStrings(this.projectId, fileId, encodeUrlParam(filter), limit, offset));
+    }
+
+    @Override
+    public Optional<SourceString> getSourceString(Long id) {
+        Map<BiPredicate<String, String>, NotFoundResponseException> errorHandlers =
+            new LinkedHashMap<BiPredicate<String, String>, NotFoundResponseException>() {{
+                put((code, message) -> code.equals("404") && !StringUtils.containsAny(message, "Project Not Found", "Organization Not Found"),
+                    new NotFoundResponseException());
+            }};
+        try {
+            return Optional.of(executeRequest(errorHandlers, () -> this.client.getSourceStringsApi()
+                .getSourceString(this.projectId, id)
+                .getData()));
+        } catch (NotFoundResponseException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<BatchResult<Optional<SourceString>>> getSourceStrings(List<Long> ids) {
+        return executeRequestBatch(ids, STRINGS_CHUNK_SIZE, this::getSourceString);
+    }
+
+    @Override
+    public Stream<SourceString> streamSourceString(Long fileId, String filter) {
+        return executeRequestStream(this.hedger, (limit, offset) -> this.client.getSourceStringsApi()
+            .listSourceStrings(this.projectId, fileId, encodeUrlParam(filter), limit, offset));
     }
 
     @Override
@@ -218,6 +309,14 @@ class CrowdinClient extends CrowdinClientCore implements Client {
         });
     }
 
+    @Override
+    public List<BatchResult<Long>> deleteSourceStrings(List<Long> ids) {
+        return executeRequestBatch(ids, STRINGS_CHUNK_SIZE, id -> {
+            this.deleteSourceString(id);
+            return id;
+        });
+    }
+
     @Override
     public SourceString editSourceString(Long sourceId, List<PatchRequest> requests) {
         return executeRequest(() -> this.client.getSourceStringsApi()
@@ -225,9 +324,21 @@ class CrowdinClient extends CrowdinClientCore implements Client {
             .getData());
     }
 
+    @Override
+    public List<BatchResult<SourceString>> editSourceStrings(Map<Long, List<PatchRequest>> requests) {
+        return executeRequestBatch(new ArrayList<>(requests.entrySet()), STRINGS_CHUNK_SIZE,
+            request -> this.editSourceString(request.getKey(), request.getValue()));
+    }
+
     @Override
     public List<Glossary> listGlossaries() {
-        return executeRequestFullList((limit, offset) -> this.client.getGlossariesApi()
+        return executeRequestFullList(this.hedger, (limit, offset) -> this.client.getGlossariesApi()
+            .listGlossaries(null, limit, offset));
+    }
+
+    @Override
+    public Stream<Glossary> streamGlossaries() {
+        return executeRequestStream(this.hedger, (limit, offset) -> this.client.getGlossariesApi()
             .listGlossaries(null, limit, offset));
     }
 
@@ -289,7 +400,7 @@ class CrowdinClient extends CrowdinClientCore implements Client {
 
     @Override
     public List<TranslationMemory> listTms() {
-        return executeRequestFullList((limit, offset) -> this.client.getTranslationMemoryApi()
+        return executeRequestFullList(this.hedger, (limit, offset) -> this.client.getTranslationMemoryApi()
             .listTms(null, limit, offset));
     }
 
@@ -347,7 +458,38 @@ class CrowdinClient extends CrowdinClientCore implements Client {
 
     @Override
     public List<Term> listTerms(Long glossaryId) {
-        return executeRequestFullList((limit, offset) -> this.client.getGlossariesApi()
+        return executeRequestFullList(this.hedger, (limit, offset) -> this.client.getGlossariesApi()
             .listTerms(glossaryId, null, null, null, limit, offset));
     }
+
+    @Override
+    public Stream<Term> streamTerms(Long glossaryId) {
+        return executeRequestStream(this.hedger, (limit, offset) -> this.client.getGlossariesApi()
+            .listTerms(glossaryId, null, null, null, limit, offset));
+    }
+
+    @Override
+    public CompletableFuture<Stream<Term>> streamTermsAsync(Long glossaryId, Integer limit) {
+        CompletableFuture<Stream<Term>> terms = executeRequestStreamInBackground(this.hedger, (limit != null) ? limit : Integer.MAX_VALUE,
+            (pageLimit, offset) -> this.client.getGlossariesApi().listTerms(glossaryId, null, null, null, pageLimit, offset));
+        return (limit != null) ? terms.thenApply(stream -> stream.limit(limit)) : terms;
+    }
+
+    @Override
+    public Optional<String> getStatistics() {
+        List<String> statistics = new ArrayList<>();
+        synchronized (this.fetchedListings) {
+            if (!this.fetchedListings.isEmpty()) {
+                statistics.add(String.format(RESOURCE_BUNDLE.getString("message.project_listings"), this.fetchedListings.entrySet()
+                    .stream()
+                    .map(listing -> String.format("%s (%d)", listing.getKey(), listing.getValue()))
+                    .collect(Collectors.joining(", "))));
+            }
+        }
+        if (this.hedger.getHedgesFired() > 0) {
+            statistics.add(String.format(RESOURCE_BUNDLE.getString("message.hedged_requests"),
+                this.hedger.getHedgesFired(), this.hedger.getHedgesWon()));
+        }
+        return (!statistics.isEmpty()) ? Optional.of(String.join("\n", statistics)) : Optional.empty();
+    }
 }
@@ -6,15 +6,30 @@ import com.crowdin.client.core.model.ResponseList;
 import com.crowdin.client.core.model.ResponseObject;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
 
@@ -22,6 +37,23 @@ abstract class CrowdinClientCore {
 
     private static final long millisToRetry = 100;
 
+    /**
+     * Maximum number of models the api returns in one page
+     */
+    private static final int PAGE_SIZE = 500;
+
+    /**
+     * Threads for requests sent in the background: chunks of batched requests and prefetched pages.
+     * The api client transport is blocking, so each of these requests holds one of the threads until it is answered
+     */
+    private static final int BACKGROUND_REQUEST_THREADS = 4;
+
+    private static final ExecutorService backgroundExecutor = Executors.newFixedThreadPool(BACKGROUND_REQUEST_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "crowdin-background-request");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private static final Map<BiPredicate<String, String>, RuntimeException> standardErrorHandlers =
         new LinkedHashMap<BiPredicate<String, String>, RuntimeException>() {{
             put((code, message) -> code.equals("401"),
@@ -51,17 +83,124 @@ abstract class CrowdinClientCore {
      * @return list of models accumulated from request function
      */
     protected static <T> List<T> executeRequestFullList(BiFunction<Integer, Integer, ResponseList<T>> request) {
+        return executeRequestFullList(null, request);
+    }
+
+    /**
+     * Util logic for downloading full lists. Each page request is hedged with the given hedger.
+     *
+     * @param hedger hedges page requests. May be null
+     * @param request represents function with two args (limit, offset)
+     * @param <T> represents model
+     * @return list of models accumulated from request function
+     */
+    protected static <T> List<T> executeRequestFullList(RequestHedger hedger, BiFunction<Integer, Integer, ResponseList<T>> request) {
         List<T> directories = new ArrayList<>();
-        long counter;
-        int limit = 500;
-        do {
-            List<T> dirs = unwrap(executeRequest(() -> request.apply(limit, directories.size())));
-            directories.addAll(dirs);
-            counter = dirs.size();
-        } while (counter == limit);
+        executeRequestFullList(hedger, request, directories::add);
         return directories;
     }
 
+    /**
+     * Util logic for downloading full lists without keeping them. Models are passed to the consumer page by page,
+     * so only one page of deserialized models is held at once.
+     *
+     * @param hedger hedges page requests. May be null
+     * @param request represents function with two args (limit, offset)
+     * @param consumer receives every model
+     * @param <T> represents model
+     */
+    protected static <T> void executeRequestFullList(
+        RequestHedger hedger, BiFunction<Integer, Integer, ResponseList<T>> request, Consumer<T> consumer
+    ) {
+        executeRequestStream(hedger, request).forEach(consumer);
+    }
+
+    /**
+     * Util logic for streaming full lists. Pages are requested lazily, when the previous page is consumed,
+     * so the first models are available before the whole list is downloaded.
+     *
+     * @param hedger hedges page requests. May be null
+     * @param request represents function with two args (limit, offset)
+     * @param <T> represents model
+     * @return sequential stream of models
+     */
+    protected static <T> Stream<T> executeRequestStream(RequestHedger hedger, BiFunction<Integer, Integer, ResponseList<T>> request) {
+        return toStream(iterateRequestPages(hedger, PAGE_SIZE, request));
+    }
+
+    /**
+     * Same as {@link #executeRequestStream(RequestHedger, BiFunction)}, but the first page is requested in the background,
+     * and the following pages only when the stream is consumed. So a future that is waited for later holds one page at most.
+     *
+     * @param hedger hedges page requests. May be null
+     * @param pageSize number of models to request at once, at most {@link #PAGE_SIZE}
+     * @param request represents function with two args (limit, offset)
+     * @param <T> represents model
+     * @return future completed with the sequential stream of models once the first page is fetched
+     */
+    protected static <T> CompletableFuture<Stream<T>> executeRequestStreamInBackground(
+        RequestHedger hedger, int pageSize, BiFunction<Integer, Integer, ResponseList<T>> request
+    ) {
+        Iterator<T> models = iterateRequestPages(hedger, Math.max(1, Math.min(pageSize, PAGE_SIZE)), request);
+        return executeRequestInBackground(() -> {
+            models.hasNext();
+            return toStream(models);
+        });
+    }
+
+    private static <T> Stream<T> toStream(Iterator<T> models) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(models, Spliterator.ORDERED), false);
+    }
+
+    private static <T> Iterator<T> iterateRequestPages(
+        RequestHedger hedger, int limit, BiFunction<Integer, Integer, ResponseList<T>> request
+    ) {
+        return new Iterator<T>() {
+            private Iterator<T> page = Collections.emptyIterator();
+            private int offset = 0;
+            private boolean lastPage = false;
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && !lastPage) {
+                    int pageOffset = offset;
+                    Supplier<ResponseList<T>> nextPage = () -> request.apply(limit, pageOffset);
+                    Supplier<ResponseList<T>> hedgedPage = (hedger != null) ? () -> hedger.execute(nextPage) : nextPage;
+                    List<T> items = unwrap(executeRequest(hedgedPage));
+                    offset += items.size();
+                    lastPage = items.size() != limit;
+                    page = items.iterator();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            }
+        };
+    }
+
+    /**
+     * Url params are appended to the url as they are by every transport, so free-text values are encoded here.
+     *
+     * @param value param value. May be null
+     * @return value encoded for a query string
+     */
+    protected static String encodeUrlParam(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException("Unexpected exception: UTF-8 is not supported", e);
+        }
+    }
+
     protected static <T> T executeRequestWithPossibleRetry(BiPredicate<String, String> expectedError, Supplier<T> request) {
         Map<BiPredicate<String, String>, RepeatException> errorHandler = new LinkedHashMap<BiPredicate<String, String>, RepeatException>() {{
                 put(expectedError, new RepeatException());
@@ -78,6 +217,52 @@ abstract class CrowdinClientCore {
         }
     }
 
+    /**
+     * Util logic for background requests. Requests are queued to a fixed pool of request threads,
+     * so at most {@link #BACKGROUND_REQUEST_THREADS} of them are in flight at once.
+     *
+     * @param request request to execute
+     * @param <T> represents model
+     * @return future completed with the result of the request
+     */
+    protected static <T> CompletableFuture<T> executeRequestInBackground(Supplier<T> request) {
+        return CompletableFuture.supplyAsync(request, backgroundExecutor);
+    }
+
+    /**
+     * Util logic for batched requests. Items are split into chunks that are sent concurrently on the request threads;
+     * a chunk is never larger than the given size nor than a fair share of the items per request thread.
+     * A failed item doesn't stop the others, its failure is returned in place of its result.
+     *
+     * @param items items to send
+     * @param chunkSize maximum number of items in one chunk
+     * @param request sends one item
+     * @param <T> represents request model
+     * @param <R> represents model
+     * @return outcomes of all items, in the order of items
+     */
+    protected static <T, R> List<BatchResult<R>> executeRequestBatch(List<T> items, int chunkSize, Function<T, R> request) {
+        int size = Math.max(1, Math.min(chunkSize, (items.size() + BACKGROUND_REQUEST_THREADS - 1) / BACKGROUND_REQUEST_THREADS));
+        List<CompletableFuture<List<BatchResult<R>>>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            List<T> chunk = items.subList(from, Math.min(items.size(), from + size));
+            chunks.add(executeRequestInBackground(() -> chunk.stream()
+                .map(item -> {
+                    try {
+                        return BatchResult.success(request.apply(item));
+                    } catch (RuntimeException e) {
+                        return BatchResult.<R>failure(e);
+                    }
+                })
+                .collect(Collectors.toList())));
+        }
+        List<BatchResult<R>> results = new ArrayList<>(items.size());
+        for (CompletableFuture<List<BatchResult<R>>> chunk : chunks) {
+            results.addAll(chunk.join());
+        }
+        return results;
+    }
+
     protected static <T> T executeRequest(Supplier<T> r) {
         return executeRequest(new HashMap<BiPredicate<String, String>, RuntimeException>(), r);
     }
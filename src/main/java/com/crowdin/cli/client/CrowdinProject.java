@@ -3,12 +3,16 @@ package com.crowdin.cli.client;
 import com.crowdin.client.languages.model.Language;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class CrowdinProject extends CrowdinProjectInfo {
 
     private List<Language> supportedLanguages;
+    private volatile Map<String, Language> supportedLanguagesById;
+    private volatile Map<String, Language> projectLanguagesById;
 
     CrowdinProject() {
 
@@ -16,6 +20,19 @@ public class CrowdinProject extends CrowdinProjectInfo {
 
     void setSupportedLanguages(List<Language> supportedLanguages) {
         this.supportedLanguages = supportedLanguages;
+        this.supportedLanguagesById = null;
+    }
+
+    @Override
+    void setProjectLanguages(List<Language> projectLanguages) {
+        super.setProjectLanguages(projectLanguages);
+        this.projectLanguagesById = null;
+    }
+
+    @Override
+    void setInContextLanguage(Language inContextLanguage) {
+        super.setInContextLanguage(inContextLanguage);
+        this.projectLanguagesById = null;
     }
 
     public List<Language> getSupportedLanguages() {
@@ -23,9 +40,28 @@ public class CrowdinProject extends CrowdinProjectInfo {
     }
 
     public Optional<Language> findLanguageById(String langId, boolean onlyProjLangs) {
-        return ((onlyProjLangs) ? this.getProjectLanguages(true) : this.getSupportedLanguages())
-            .stream()
-            .filter(lang -> lang.getId().equals(langId))
-            .findFirst();
+        Map<String, Language> languagesById;
+        if (onlyProjLangs) {
+            languagesById = this.projectLanguagesById;
+            if (languagesById == null) {
+                languagesById = indexById(this.getProjectLanguages(true));
+                this.projectLanguagesById = languagesById;
+            }
+        } else {
+            languagesById = this.supportedLanguagesById;
+            if (languagesById == null) {
+                languagesById = indexById(this.getSupportedLanguages());
+                this.supportedLanguagesById = languagesById;
+            }
+        }
+        return Optional.ofNullable(languagesById.get(langId));
+    }
+
+    private static Map<String, Language> indexById(List<Language> languages) {
+        Map<String, Language> languagesById = new HashMap<>();
+        for (Language language : languages) {
+            languagesById.putIfAbsent(language.getId(), language);
+        }
+        return languagesById;
     }
 }
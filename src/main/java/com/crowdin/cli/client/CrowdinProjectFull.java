@@ -6,53 +6,102 @@ import com.crowdin.client.sourcefiles.model.File;
 import com.crowdin.client.sourcefiles.model.FileInfo;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
 
 public class CrowdinProjectFull extends CrowdinProject {
 
-    private List<? extends FileInfo> files;
-    private List<Directory> directories;
-    private List<Branch> branches;
+    private final Facet<ProjectFiles> files = new Facet<>(new ProjectFiles());
+    private final Facet<ProjectDirectories> directories = new Facet<>(new ProjectDirectories());
+    private final Facet<List<Branch>> branches = new Facet<>(new ArrayList<>());
+    private volatile ProjectIndex index;
 
     void setFiles(List<? extends FileInfo> files) {
-        this.files = files;
+        ProjectFiles projectFiles = new ProjectFiles();
+        files.forEach(projectFiles::addFile);
+        this.setFiles(projectFiles);
+    }
+
+    void setFiles(ProjectFiles files) {
+        this.files.set(files);
+        this.index = null;
     }
 
     void setDirectories(List<Directory> directories) {
-        this.directories = directories;
+        ProjectDirectories projectDirectories = new ProjectDirectories();
+        directories.forEach(projectDirectories::addDirectory);
+        this.setDirectories(projectDirectories);
+    }
+
+    void setDirectories(ProjectDirectories directories) {
+        this.directories.set(directories);
+        this.index = null;
     }
 
     void setBranches(List<Branch> branches) {
-        this.branches = branches;
+        this.branches.set(branches);
+        this.index = null;
+    }
+
+    /**
+     * Sets loaders of the project structure. Each listing is loaded on its first access, so commands fetch only
+     * the listings they read
+     */
+    void setStructureLoaders(Supplier<List<Branch>> branches, Supplier<ProjectFiles> files, Supplier<ProjectDirectories> directories) {
+        this.branches.setLoader(branches);
+        this.files.setLoader(files);
+        this.directories.setLoader(directories);
+        this.index = null;
     }
 
+    /**
+     * Index of branches, directories and files. It is built on first use and rebuilt after local changes.
+     * Loads all listings of the project structure
+     * @return index of the project structure
+     */
+    public ProjectIndex getIndex() {
+        ProjectIndex index = this.index;
+        if (index == null) {
+            index = new ProjectIndex(directories.get(), branches.get(), files.get());
+            this.index = index;
+        }
+        return index;
+    }
+
+    /**
+     * Loads only the listing of branches
+     * @return branches by id
+     */
     public Map<Long, Branch> getBranches() {
-        return this.branches
-            .stream()
-            .collect(Collectors.toMap(Branch::getId, Function.identity()));
+        Map<Long, Branch> branchesById = new HashMap<>();
+        branches.get().forEach(branch -> branchesById.put(branch.getId(), branch));
+        return branchesById;
     }
 
     public void addBranchToLocalList(Branch branch) {
-        this.branches.add(branch);
+        this.branches.get().add(branch);
+        this.index = null;
     }
 
+    /**
+     * Loads only the listing of branches
+     * @return the first branch with the given name
+     */
     public Optional<Branch> findBranchByName(String branchName) {
-        return branches
+        return branches.get()
             .stream()
-            .filter(branch -> branch.getName().equals(branchName))
+            .filter(branch -> Objects.equals(branch.getName(), branchName))
             .findFirst();
     }
 
     public Map<Long, Directory> getDirectories() {
-        return directories
-            .stream()
-            .collect(Collectors.toMap(Directory::getId, Function.identity()));
+        return this.getIndex().getDirectories();
     }
 
     /**
@@ -60,19 +109,60 @@ public class CrowdinProjectFull extends CrowdinProject {
      * @return list of files
      */
     public List<File> getFiles() {
-        if (files.isEmpty()) {
+        if (files.get().isEmpty()) {
             return new ArrayList<>();
+        } else if (files.get().isManagerFiles()) {
+            return (List<File>) (List<? extends FileInfo>) files.get();
         } else {
-            FileInfo first = files.get(0);
-            if (first instanceof File) {
-                return (List<File>) files;
-            } else {
-                throw new RuntimeException(RESOURCE_BUNDLE.getString("message.no_manager_access"));
-            }
+            throw new RuntimeException(RESOURCE_BUNDLE.getString("message.no_manager_access"));
         }
     }
 
+    /**
+     * returns list of files. File objects are rebuilt on access and contain only ids, names, parents and export patterns
+     * @return list of files
+     */
     public List<FileInfo> getFileInfos() {
-        return (List<FileInfo>) files;
+        return files.get();
+    }
+
+    /**
+     * Part of the project structure that is either set or loaded on first access
+     *
+     * @param <T> represents listing
+     */
+    private static final class Facet<T> {
+
+        private Supplier<T> loader;
+        private T value;
+
+        Facet(T value) {
+            this.value = value;
+        }
+
+        /**
+         * Loads the listing if it isn't loaded yet. Failures to load are reported the same way as failures
+         * to fetch the project, the listing is loaded again on the next access
+         */
+        synchronized T get() {
+            if (loader != null) {
+                try {
+                    value = loader.get();
+                } catch (RuntimeException e) {
+                    throw new RuntimeException(RESOURCE_BUNDLE.getString("error.collect_project_info"), e);
+                }
+                loader = null;
+            }
+            return value;
+        }
+
+        synchronized void set(T value) {
+            this.value = value;
+            this.loader = null;
+        }
+
+        synchronized void setLoader(Supplier<T> loader) {
+            this.loader = loader;
+        }
     }
 }
@@ -0,0 +1,42 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.client.core.http.HttpClient;
+import com.crowdin.client.core.http.impl.json.JacksonJsonTransformer;
+import com.crowdin.client.core.model.ClientConfig;
+
+import java.util.Optional;
+
+/**
+ * Transport that sends http requests of the api client.
+ */
+public interface HttpTransport {
+
+    /**
+     * @param proxy proxy host. May be null
+     * @param proxyCreds proxy credentials. May be null
+     * @return http client for the api client or empty to use the api client's own transport
+     */
+    Optional<HttpClient> buildHttpClient(String apiToken, String userAgent, JacksonJsonTransformer jsonTransformer,
+                                         ClientConfig.Host proxy, ClientConfig.UsernamePasswordCredentials proxyCreds);
+
+    /**
+     * @return connection statistics, if the transport collects them
+     */
+    default Optional<String> getStatistics() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return transport built into the api client
+     */
+    static HttpTransport sdk() {
+        return (apiToken, userAgent, jsonTransformer, proxy, proxyCreds) -> Optional.empty();
+    }
+
+    /**
+     * @return transport configured with CROWDIN_HTTP_* environment variables. The api client's own transport by default
+     */
+    static HttpTransport fromEnvironment() {
+        return PooledHttpTransport.fromEnvironment();
+    }
+}
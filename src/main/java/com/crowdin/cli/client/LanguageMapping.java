@@ -3,27 +3,28 @@ package com.crowdin.cli.client;
 import lombok.NonNull;
 import lombok.ToString;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
-@ToString
+@ToString(exclude = "hashCode")
 public final class LanguageMapping {
     private final Map<String, Map<String, String>> languageMapping;
+    private final int hashCode;
 
     private LanguageMapping() {
-        this.languageMapping = new HashMap<>();
+        this.languageMapping = Collections.emptyMap();
+        this.hashCode = this.languageMapping.hashCode();
     }
 
     public boolean containsValue(String langCode, String placeholder) {
-        return languageMapping.containsKey(langCode) && languageMapping.get(langCode).containsKey(placeholder);
+        Map<String, String> values = languageMapping.get(langCode);
+        return values != null && values.containsKey(placeholder);
     }
 
     public String getValue(String langCode, String placeholder) {
-        if (!this.containsValue(langCode, placeholder)) {
-            return null;
-        } else {
-            return languageMapping.get(langCode).get(placeholder);
-        }
+        Map<String, String> values = languageMapping.get(langCode);
+        return (values != null) ? values.get(placeholder) : null;
     }
 
     public String getValueOrDefault(String langCode, String placeholder, String defaultValue) {
@@ -32,7 +33,32 @@ public final class LanguageMapping {
     }
 
     private LanguageMapping(Map<String, Map<String, String>> languageMapping) {
-        this.languageMapping = languageMapping;
+        Map<String, Map<String, String>> copy = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> entry : languageMapping.entrySet()) {
+            copy.put(entry.getKey(), Collections.unmodifiableMap(entry.getValue()));
+        }
+        this.languageMapping = Collections.unmodifiableMap(copy);
+        this.hashCode = this.languageMapping.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LanguageMapping that = (LanguageMapping) o;
+        return hashCode == that.hashCode && languageMapping.equals(that.languageMapping);
+    }
+
+    /**
+     * Mappings are immutable, so the hash code is computed once. It makes them cheap to use as keys of lookup tables
+     */
+    @Override
+    public int hashCode() {
+        return hashCode;
     }
 
     /**
@@ -0,0 +1,4 @@
+package com.crowdin.cli.client;
+
+public class NotFoundResponseException extends ResponseException {
+}
@@ -0,0 +1,150 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.cli.utils.file.FileChannelInputStream;
+import com.crowdin.client.core.http.HttpClient;
+import com.crowdin.client.core.http.HttpRequestConfig;
+import com.crowdin.client.core.http.exceptions.HttpBadRequestException;
+import com.crowdin.client.core.http.exceptions.HttpException;
+import com.crowdin.client.core.http.impl.json.JacksonJsonTransformer;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the api client's transport on top of a shared (pooled) apache http client.
+ * Url params are appended as they are, the same way the api client's own transport does.
+ */
+class PooledHttpClient implements HttpClient {
+
+    private final CloseableHttpClient httpClient;
+    private final String apiToken;
+    private final JacksonJsonTransformer jsonTransformer;
+
+    PooledHttpClient(CloseableHttpClient httpClient, String apiToken, JacksonJsonTransformer jsonTransformer) {
+        this.httpClient = httpClient;
+        this.apiToken = apiToken;
+        this.jsonTransformer = jsonTransformer;
+    }
+
+    @Override
+    public <T> T get(String url, HttpRequestConfig config, Class<T> clazz) {
+        return this.request(HttpGet.METHOD_NAME, url, null, config, clazz);
+    }
+
+    @Override
+    public <T> T delete(String url, HttpRequestConfig config, Class<T> clazz) {
+        return this.request(HttpDelete.METHOD_NAME, url, null, config, clazz);
+    }
+
+    @Override
+    public <T, V> V post(String url, T data, HttpRequestConfig config, Class<V> clazz) {
+        return this.request(HttpPost.METHOD_NAME, url, data, config, clazz);
+    }
+
+    @Override
+    public <T, V> V put(String url, T data, HttpRequestConfig config, Class<V> clazz) {
+        return this.request(HttpPut.METHOD_NAME, url, data, config, clazz);
+    }
+
+    @Override
+    public <T, V> V patch(String url, T data, HttpRequestConfig config, Class<V> clazz) {
+        return this.request(HttpPatch.METHOD_NAME, url, data, config, clazz);
+    }
+
+    private <V> V request(String method, String url, Object data, HttpRequestConfig config, Class<V> clazz) {
+        RequestBuilder requestBuilder = RequestBuilder.create(method)
+            .setUri(this.appendUrlParams(url, config));
+        requestBuilder.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + this.apiToken);
+        Map<String, ?> headers = config.getHeaders();
+        if (headers != null) {
+            headers.forEach((name, value) -> requestBuilder.setHeader(name, String.valueOf(value)));
+        }
+        if (data instanceof FileChannelInputStream) {
+            requestBuilder.setEntity(new InputStreamEntity((InputStream) data, ((FileChannelInputStream) data).length()));
+        } else if (data instanceof InputStream) {
+            requestBuilder.setEntity(new InputStreamEntity((InputStream) data));
+        } else if (data != null) {
+            requestBuilder.setEntity(new StringEntity(this.jsonTransformer.convert(data), ContentType.APPLICATION_JSON));
+        }
+        try (CloseableHttpResponse response = this.httpClient.execute(requestBuilder.build())) {
+            int statusCode = response.getStatusLine().getStatusCode();
+            HttpEntity entity = response.getEntity();
+            String body = (entity != null) ? EntityUtils.toString(entity, StandardCharsets.UTF_8) : null;
+            if (statusCode < 200 || statusCode >= 300) {
+                throw this.buildError(statusCode, body);
+            }
+            if (Void.class.equals(clazz) || body == null || body.isEmpty()) {
+                return null;
+            }
+            return this.jsonTransformer.parse(body, clazz);
+        } catch (IOException e) {
+            throw buildHttpException(null, e.getMessage());
+        }
+    }
+
+    private String appendUrlParams(String url, HttpRequestConfig config) {
+        Map<String, ?> urlParams = config.getUrlParams();
+        if (urlParams == null || urlParams.isEmpty()) {
+            return url;
+        }
+        String query = urlParams.entrySet()
+            .stream()
+            .map(param -> unwrapParam(param.getValue())
+                .map(value -> param.getKey() + "=" + value))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(Collectors.joining("&"));
+        if (query.isEmpty()) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + query;
+    }
+
+    private RuntimeException buildError(int statusCode, String body) {
+        if (body != null) {
+            try {
+                if (body.contains("\"errors\"")) {
+                    return this.jsonTransformer.parse(body, HttpBadRequestException.class);
+                }
+                HttpException exception = this.jsonTransformer.parse(body, HttpException.class);
+                if (exception.getError() != null) {
+                    return exception;
+                }
+            } catch (RuntimeException e) {
+//                not a json error, build it below
+            }
+        }
+        return buildHttpException(String.valueOf(statusCode), body);
+    }
+
+    private static HttpException buildHttpException(String code, String message) {
+        HttpException exception = new HttpException();
+        HttpException.Error error = new HttpException.Error();
+        error.setCode(code);
+        error.setMessage(message);
+        exception.setError(error);
+        return exception;
+    }
+
+    private static Optional<?> unwrapParam(Object value) {
+        return (value instanceof Optional) ? (Optional<?>) value : Optional.ofNullable(value);
+    }
+}
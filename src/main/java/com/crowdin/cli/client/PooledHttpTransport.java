@@ -0,0 +1,152 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.client.core.http.HttpClient;
+import com.crowdin.client.core.http.impl.json.JacksonJsonTransformer;
+import com.crowdin.client.core.model.ClientConfig;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.auth.AuthScope;
+import org.apache.http.auth.UsernamePasswordCredentials;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.crowdin.cli.BaseCli.HTTP_CONNECT_TIMEOUT_ENV;
+import static com.crowdin.cli.BaseCli.HTTP_IDLE_TIMEOUT_ENV;
+import static com.crowdin.cli.BaseCli.HTTP_POOL_SIZE_ENV;
+import static com.crowdin.cli.BaseCli.HTTP_READ_TIMEOUT_ENV;
+import static com.crowdin.cli.BaseCli.HTTP_TRANSPORT_ENV;
+import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
+
+/**
+ * Keep-alive transport with a connection pool large enough for all concurrent requests,
+ * so connections (and their TLS sessions) are reused instead of opened per request.
+ */
+class PooledHttpTransport implements HttpTransport {
+
+    static final int DEFAULT_POOL_SIZE = 10;
+    static final int DEFAULT_IDLE_TIMEOUT = 30;
+    static final int DEFAULT_CONNECT_TIMEOUT = 30;
+    static final int DEFAULT_READ_TIMEOUT = 0;
+
+    private final int poolSize;
+    private final int idleTimeout;
+    private final int connectTimeout;
+    private final int readTimeout;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+
+    /**
+     * @param poolSize max number of open connections
+     * @param idleTimeout seconds after which an idle connection is closed
+     * @param connectTimeout connect timeout in seconds. 0 means no timeout
+     * @param readTimeout read timeout in seconds. 0 means no timeout
+     */
+    PooledHttpTransport(int poolSize, int idleTimeout, int connectTimeout, int readTimeout) {
+        this.poolSize = poolSize;
+        this.idleTimeout = idleTimeout;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * The pooled transport is used only if CROWDIN_HTTP_TRANSPORT is 'pooled', the api client's own transport otherwise
+     * @throws RuntimeException if any of the CROWDIN_HTTP_* variables has an invalid value
+     */
+    static HttpTransport fromEnvironment() {
+        String transport = System.getenv(HTTP_TRANSPORT_ENV);
+        if (transport == null || "sdk".equalsIgnoreCase(transport)) {
+            return HttpTransport.sdk();
+        } else if (!"pooled".equalsIgnoreCase(transport)) {
+            throw new RuntimeException(String.format(RESOURCE_BUNDLE.getString("error.http_env_invalid"), HTTP_TRANSPORT_ENV, transport));
+        }
+        return new PooledHttpTransport(
+            intFromEnv(HTTP_POOL_SIZE_ENV, DEFAULT_POOL_SIZE, 1),
+            intFromEnv(HTTP_IDLE_TIMEOUT_ENV, DEFAULT_IDLE_TIMEOUT, 1),
+            intFromEnv(HTTP_CONNECT_TIMEOUT_ENV, DEFAULT_CONNECT_TIMEOUT, 0),
+            intFromEnv(HTTP_READ_TIMEOUT_ENV, DEFAULT_READ_TIMEOUT, 0));
+    }
+
+    @Override
+    public Optional<HttpClient> buildHttpClient(String apiToken, String userAgent, JacksonJsonTransformer jsonTransformer,
+                                                ClientConfig.Host proxy, ClientConfig.UsernamePasswordCredentials proxyCreds) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+            RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", SSLConnectionSocketFactory.getSocketFactory())
+                .build(),
+            (route, config) -> {
+                connectionsOpened.incrementAndGet();
+                return ManagedHttpClientConnectionFactory.INSTANCE.create(route, config);
+            });
+        connectionManager.setMaxTotal(poolSize);
+        connectionManager.setDefaultMaxPerRoute(poolSize);
+
+        HttpClientBuilder builder = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .evictIdleConnections(idleTimeout, TimeUnit.SECONDS)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectTimeout((int) TimeUnit.SECONDS.toMillis(connectTimeout))
+                .setSocketTimeout((int) TimeUnit.SECONDS.toMillis(readTimeout))
+                .build())
+            .setUserAgent(userAgent)
+            .addInterceptorFirst((HttpRequestInterceptor) (request, context) -> requests.incrementAndGet());
+        if (proxy != null) {
+            builder.setProxy(new HttpHost(proxy.getHost(), proxy.getPort()));
+            if (proxyCreds != null && proxyCreds.getUsername() != null && proxyCreds.getPassword() != null) {
+                BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+                credentialsProvider.setCredentials(new AuthScope(proxy.getHost(), proxy.getPort()),
+                    new UsernamePasswordCredentials(proxyCreds.getUsername(), proxyCreds.getPassword()));
+                builder.setDefaultCredentialsProvider(credentialsProvider);
+            }
+        }
+        return Optional.of(new PooledHttpClient(builder.build(), apiToken, jsonTransformer));
+    }
+
+    @Override
+    public Optional<String> getStatistics() {
+        long sent = this.getRequests();
+        long opened = this.getConnectionsOpened();
+        return Optional.of(String.format(RESOURCE_BUNDLE.getString("message.http_connections"),
+            sent, opened, Math.max(0, sent - opened)));
+    }
+
+    long getRequests() {
+        return requests.get();
+    }
+
+    long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    private static int intFromEnv(String name, int defaultValue, int minValue) {
+        return intFromValue(name, System.getenv(name), defaultValue, minValue);
+    }
+
+    static int intFromValue(String name, String value, int defaultValue, int minValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed >= minValue) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+//            reported below
+        }
+        throw new RuntimeException(String.format(RESOURCE_BUNDLE.getString("error.http_env_invalid"), name, value));
+    }
+}
@@ -0,0 +1,37 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.client.sourcefiles.model.Directory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Directories of a project. Keeps ids, names and parents; other fields are dropped.
+ */
+class ProjectDirectories extends ProjectNodes<Directory> {
+
+    ProjectDirectories() {
+        this(new HashMap<>());
+    }
+
+    ProjectDirectories(Map<String, String> strings) {
+        super(strings);
+    }
+
+    void addDirectory(Directory directory) {
+        this.append(directory.getId(), directory.getName(), directory.getDirectoryId(), directory.getBranchId());
+    }
+
+    @Override
+    public Directory get(int row) {
+        if (row < 0 || row >= this.size()) {
+            throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + this.size());
+        }
+        Directory directory = new Directory();
+        directory.setId(this.getId(row));
+        directory.setName(this.getName(row));
+        directory.setDirectoryId(this.getDirectoryId(row));
+        directory.setBranchId(this.getBranchId(row));
+        return directory;
+    }
+}
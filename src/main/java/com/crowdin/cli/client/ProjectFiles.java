@@ -0,0 +1,86 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.client.sourcefiles.model.ExportOptions;
+import com.crowdin.client.sourcefiles.model.File;
+import com.crowdin.client.sourcefiles.model.FileInfo;
+import com.crowdin.client.sourcefiles.model.GeneralFileExportOptions;
+import com.crowdin.client.sourcefiles.model.PropertyFileExportOptions;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Source files of a project. Keeps ids, names, parents and export patterns; other fields (revisions, statuses,
+ * dates, import options) are dropped. Files are rebuilt as {@link File} if they were fetched with manager access
+ * and as {@link FileInfo} otherwise.
+ */
+class ProjectFiles extends ProjectNodes<FileInfo> {
+
+    private String[] exportPatterns = new String[16];
+    private Boolean managerFiles;
+
+    ProjectFiles() {
+        this(new HashMap<>());
+    }
+
+    ProjectFiles(Map<String, String> strings) {
+        super(strings);
+    }
+
+    void addFile(FileInfo file) {
+        int row = this.append(file.getId(), file.getName(), file.getDirectoryId(), file.getBranchId());
+        if (managerFiles == null) {
+            managerFiles = file instanceof File;
+        }
+        if (file instanceof File) {
+            exportPatterns[row] = this.intern(getExportPattern(((File) file).getExportOptions()));
+        }
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        exportPatterns = Arrays.copyOf(exportPatterns, capacity);
+    }
+
+    /**
+     * @return true if files were fetched as {@link File}, like the first one was
+     */
+    boolean isManagerFiles() {
+        return managerFiles == null || managerFiles;
+    }
+
+    @Override
+    public FileInfo get(int row) {
+        if (row < 0 || row >= this.size()) {
+            throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + this.size());
+        }
+        FileInfo file;
+        if (this.isManagerFiles()) {
+            File managerFile = new File();
+            if (exportPatterns[row] != null) {
+                GeneralFileExportOptions exportOptions = new GeneralFileExportOptions();
+                exportOptions.setExportPattern(exportPatterns[row]);
+                managerFile.setExportOptions(exportOptions);
+            }
+            file = managerFile;
+        } else {
+            file = new FileInfo();
+        }
+        file.setId(this.getId(row));
+        file.setName(this.getName(row));
+        file.setDirectoryId(this.getDirectoryId(row));
+        file.setBranchId(this.getBranchId(row));
+        return file;
+    }
+
+    private static String getExportPattern(ExportOptions exportOptions) {
+        if (exportOptions instanceof PropertyFileExportOptions) {
+            return ((PropertyFileExportOptions) exportOptions).getExportPattern();
+        } else if (exportOptions instanceof GeneralFileExportOptions) {
+            return ((GeneralFileExportOptions) exportOptions).getExportPattern();
+        } else {
+            return null;
+        }
+    }
+}
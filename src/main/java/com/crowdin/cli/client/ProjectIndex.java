@@ -0,0 +1,258 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.cli.utils.Utils;
+import com.crowdin.client.sourcefiles.model.Branch;
+import com.crowdin.client.sourcefiles.model.Directory;
+import com.crowdin.client.sourcefiles.model.FileInfo;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable lookup tables over the structure of a project: branches, directories and files by id, name and path.
+ * Built once per fetched project (see {@link CrowdinProjectFull#getIndex()}) instead of in every action.
+ * Only directory paths are kept; paths of files are rebuilt from them on demand.
+ */
+public final class ProjectIndex {
+
+    private final ProjectDirectories directories;
+    private final ProjectFiles files;
+    private final Map<Long, Branch> branches;
+    private final Map<String, Branch> branchesByName;
+    private final Map<Long, String> directoryPaths;
+    private final Map<Long, String> directoryPathsWithBranches;
+    private final int[] filesByName;
+    private final Map<String, FileInfo> filePaths = new FilePaths();
+
+    ProjectIndex(ProjectDirectories directories, List<Branch> branches, ProjectFiles files) {
+        this.directories = directories;
+        this.files = files;
+
+        Map<Long, Branch> branchesById = new HashMap<>();
+        Map<String, Branch> branchesByName = new HashMap<>();
+        for (Branch branch : branches) {
+            branchesById.put(branch.getId(), branch);
+            branchesByName.putIfAbsent(branch.getName(), branch);
+        }
+        this.branches = Collections.unmodifiableMap(branchesById);
+        this.branchesByName = Collections.unmodifiableMap(branchesByName);
+
+        Map<Long, Integer> directoryRows = new HashMap<>();
+        for (int row = 0; row < directories.size(); row++) {
+            directoryRows.put(directories.getId(row), row);
+        }
+        this.directoryPaths = Collections.unmodifiableMap(buildDirectoryPaths(directories, directoryRows));
+
+        Map<Long, String> directoryPathsWithBranches = new HashMap<>();
+        this.directoryPaths.forEach((id, path) ->
+            directoryPathsWithBranches.put(id, this.getBranchPath(directories.getBranchId(directoryRows.get(id))) + path));
+        branchesById.keySet().forEach(id -> directoryPathsWithBranches.put(id, this.getBranchPath(id)));
+        this.directoryPathsWithBranches = Collections.unmodifiableMap(directoryPathsWithBranches);
+
+        this.filesByName = sortByName(files);
+    }
+
+    /**
+     * Paths of directories are memoized along the parent chain, so every path prefix is built only once
+     */
+    private static Map<Long, String> buildDirectoryPaths(ProjectDirectories directories, Map<Long, Integer> rows) {
+        Map<Long, String> paths = new HashMap<>();
+        Deque<Integer> chain = new ArrayDeque<>();
+        for (int row = 0; row < directories.size(); row++) {
+            Integer current = row;
+            while (current != null && !paths.containsKey(directories.getId(current))) {
+                chain.push(current);
+                Long parentId = directories.getDirectoryId(current);
+                current = (parentId != null) ? rows.get(parentId) : null;
+            }
+            String path = (current != null) ? paths.get(directories.getId(current)) : "";
+            while (!chain.isEmpty()) {
+                int child = chain.pop();
+                path = path + directories.getName(child) + Utils.PATH_SEPARATOR;
+                paths.put(directories.getId(child), path);
+            }
+        }
+        return paths;
+    }
+
+    private static int[] sortByName(ProjectFiles files) {
+        Integer[] rows = new Integer[files.size()];
+        for (int row = 0; row < rows.length; row++) {
+            rows[row] = row;
+        }
+        Arrays.sort(rows, (row1, row2) -> {
+            int result = compareNames(files.getName(row1), files.getName(row2));
+            return (result != 0) ? result : Integer.compare(row1, row2);
+        });
+        return Arrays.stream(rows).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int compareNames(String name1, String name2) {
+        if (name1 == null || name2 == null) {
+            return (name1 == null) ? ((name2 == null) ? 0 : -1) : 1;
+        }
+        return name1.compareTo(name2);
+    }
+
+    private String getBranchPath(Long branchId) {
+        Branch branch = (branchId != null) ? branches.get(branchId) : null;
+        return (branch != null) ? branch.getName() + Utils.PATH_SEPARATOR : "";
+    }
+
+    private String getFilePath(int row) {
+        Long parentId = files.getParentId(row);
+        String parentPath = (parentId != null) ? directoryPathsWithBranches.get(parentId) : null;
+        return ((parentPath != null) ? parentPath : "") + files.getName(row);
+    }
+
+    /**
+     * @return row of the file with the given path. The last one if there are several
+     */
+    private int findFile(String path) {
+        int nameStart = path.lastIndexOf(Utils.PATH_SEPARATOR) + 1;
+        String name = path.substring(nameStart);
+        String parentPath = path.substring(0, nameStart);
+        int low = 0;
+        int high = filesByName.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareNames(files.getName(filesByName[middle]), name) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int found = -1;
+        for (int i = low; i < filesByName.length && name.equals(files.getName(filesByName[i])); i++) {
+            int row = filesByName[i];
+            Long parentId = files.getParentId(row);
+            String rowParentPath = (parentId != null) ? directoryPathsWithBranches.get(parentId) : null;
+            if (parentPath.equals((rowParentPath != null) ? rowParentPath : "")) {
+                found = row;
+            }
+        }
+        return found;
+    }
+
+    public Map<Long, Branch> getBranches() {
+        return branches;
+    }
+
+    public Optional<Branch> findBranchByName(String branchName) {
+        return Optional.ofNullable(branchesByName.get(branchName));
+    }
+
+    /**
+     * @return directories by id. Directory objects are rebuilt on every call
+     */
+    public Map<Long, Directory> getDirectories() {
+        Map<Long, Directory> directoriesById = new HashMap<>();
+        directories.forEach(directory -> directoriesById.put(directory.getId(), directory));
+        return directoriesById;
+    }
+
+    /**
+     * @param directoryId id of parent directory, null for directories in the root of a project or of a branch
+     * @return directories right under the given one
+     */
+    public List<Directory> getChildDirectories(Long directoryId) {
+        List<Directory> children = new ArrayList<>();
+        for (int row = 0; row < directories.size(); row++) {
+            if (Objects.equals(directories.getDirectoryId(row), directoryId)) {
+                children.add(directories.get(row));
+            }
+        }
+        return children;
+    }
+
+    /**
+     * @return paths of directories, without branch names
+     */
+    public Map<Long, String> getDirectoryPaths() {
+        return directoryPaths;
+    }
+
+    /**
+     * @return paths of directories, prefixed with the names of their branches, and paths of the branches themselves
+     */
+    public Map<Long, String> getDirectoryPathsWithBranches() {
+        return directoryPathsWithBranches;
+    }
+
+    /**
+     * @return files by their paths (with branch names). Paths and file objects are rebuilt on access
+     */
+    public Map<String, FileInfo> getFilePaths() {
+        return filePaths;
+    }
+
+    /**
+     * Read-only view of files by path, backed by the columns of files and the paths of directories
+     */
+    private final class FilePaths extends AbstractMap<String, FileInfo> {
+
+        @Override
+        public FileInfo get(Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            int row = findFile((String) key);
+            return (row != -1) ? files.get(row) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && findFile((String) key) != -1;
+        }
+
+        @Override
+        public int size() {
+            return files.size();
+        }
+
+        @Override
+        public Set<Entry<String, FileInfo>> entrySet() {
+            return new AbstractSet<Entry<String, FileInfo>>() {
+                @Override
+                public Iterator<Entry<String, FileInfo>> iterator() {
+                    return new Iterator<Entry<String, FileInfo>>() {
+                        private int row = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return row < files.size();
+                        }
+
+                        @Override
+                        public Entry<String, FileInfo> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, FileInfo> entry = new SimpleImmutableEntry<>(getFilePath(row), files.get(row));
+                            row++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return files.size();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.crowdin.cli.client;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Files or directories of a project, stored by columns: ids and parent ids in primitive arrays and names
+ * interned in a pool shared by the whole project. Model objects are rebuilt on demand and only with
+ * the fields actions need.
+ *
+ * @param <T> represents model
+ */
+abstract class ProjectNodes<T> extends AbstractList<T> {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final Map<String, String> strings;
+    private long[] ids = new long[16];
+    private long[] directoryIds = new long[16];
+    private long[] branchIds = new long[16];
+    private String[] names = new String[16];
+    private int size;
+
+    /**
+     * @param strings pool of interned strings. May be shared between files and directories
+     */
+    ProjectNodes(Map<String, String> strings) {
+        this.strings = strings;
+    }
+
+    /**
+     * Adds a node
+     * @return row of the added node
+     */
+    protected int append(Long id, String name, Long directoryId, Long branchId) {
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            directoryIds = Arrays.copyOf(directoryIds, capacity);
+            branchIds = Arrays.copyOf(branchIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+            this.grow(capacity);
+        }
+        ids[size] = toPrimitive(id);
+        directoryIds[size] = toPrimitive(directoryId);
+        branchIds[size] = toPrimitive(branchId);
+        names[size] = this.intern(name);
+        return size++;
+    }
+
+    /**
+     * Grows additional columns of subclasses
+     * @param capacity new capacity
+     */
+    protected void grow(int capacity) {
+
+    }
+
+    protected String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String interned = strings.putIfAbsent(value, value);
+        return (interned != null) ? interned : value;
+    }
+
+    Long getId(int row) {
+        return toObject(ids[row]);
+    }
+
+    String getName(int row) {
+        return names[row];
+    }
+
+    Long getDirectoryId(int row) {
+        return toObject(directoryIds[row]);
+    }
+
+    Long getBranchId(int row) {
+        return toObject(branchIds[row]);
+    }
+
+    /**
+     * @return id of the directory that contains the node, otherwise id of its branch
+     */
+    Long getParentId(int row) {
+        return (directoryIds[row] != NONE) ? toObject(directoryIds[row]) : toObject(branchIds[row]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static long toPrimitive(Long value) {
+        return (value != null) ? value : NONE;
+    }
+
+    private static Long toObject(long value) {
+        return (value != NONE) ? value : null;
+    }
+}
@@ -0,0 +1,178 @@
+package com.crowdin.cli.client;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Sends a duplicate of an idempotent request if the first one has not answered within the observed p95 latency,
+ * and uses whichever answer comes first. Should be used only for read-only requests.
+ * Hedges are limited to a share of all requests; once it's used up, requests are sent on the calling thread.
+ */
+class RequestHedger {
+
+    private static final int LATENCY_WINDOW = 200;
+    private static final int MIN_SAMPLES = 10;
+    private static final double PERCENTILE = 0.95;
+    private static final double HEDGE_BUDGET = 0.1;
+
+    private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "crowdin-hedged-request");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "crowdin-hedge-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongSupplier nanoClock;
+    private final LongFunction<CompletableFuture<Void>> delay;
+
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int samples = 0;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedgesFired = new AtomicLong();
+    private final AtomicLong hedgesWon = new AtomicLong();
+
+    RequestHedger() {
+        this(System::nanoTime, RequestHedger::delay);
+    }
+
+    /**
+     * @param nanoClock source of time to measure latencies with
+     * @param delay returns a future completed after the given number of milliseconds
+     */
+    RequestHedger(LongSupplier nanoClock, LongFunction<CompletableFuture<Void>> delay) {
+        this.nanoClock = nanoClock;
+        this.delay = delay;
+    }
+
+    <T> T execute(Supplier<T> request) {
+        requests.incrementAndGet();
+        long hedgeDelay = this.hedgeDelayMillis();
+        if (hedgeDelay < 0 || !this.hasBudget(hedgesFired.get())) {
+            return this.timed(request).get();
+        }
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(this.timed(request), executor);
+        join(CompletableFuture.anyOf(primary, this.delay.apply(hedgeDelay)));
+        if (primary.isDone() || !this.tryAcquireBudget()) {
+            return join(primary);
+        }
+        CompletableFuture<T> hedge = CompletableFuture.supplyAsync(this.timed(request), executor);
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> completeFirst(first, result, error, failures, false));
+        hedge.whenComplete((result, error) -> completeFirst(first, result, error, failures, true));
+        return join(first);
+    }
+
+    long getHedgesFired() {
+        return hedgesFired.get();
+    }
+
+    long getHedgesWon() {
+        return hedgesWon.get();
+    }
+
+    private static CompletableFuture<Void> delay(long millis) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        timer.schedule(() -> future.complete(null), millis, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private <T> void completeFirst(CompletableFuture<T> first, T result, Throwable error, AtomicInteger failures, boolean isHedge) {
+        if (error == null) {
+//            the win is counted before the caller is woken up, so it's seen once the request returns
+            synchronized (first) {
+                if (!first.isDone()) {
+                    if (isHedge) {
+                        hedgesWon.incrementAndGet();
+                    }
+                    first.complete(result);
+                }
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            first.completeExceptionally(error);
+        }
+    }
+
+    private boolean tryAcquireBudget() {
+        long fired;
+        do {
+            fired = hedgesFired.get();
+            if (!this.hasBudget(fired)) {
+                return false;
+            }
+        } while (!hedgesFired.compareAndSet(fired, fired + 1));
+        return true;
+    }
+
+    /**
+     * @return whether one more hedge keeps hedges within the budget share of requests
+     */
+    private boolean hasBudget(long fired) {
+        return fired + 1 <= Math.max(1, requests.get() * HEDGE_BUDGET);
+    }
+
+    private <T> Supplier<T> timed(Supplier<T> request) {
+        return () -> {
+            long start = nanoClock.getAsLong();
+            T result = request.get();
+            this.recordLatency(TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - start));
+            return result;
+        };
+    }
+
+    private synchronized void recordLatency(long millis) {
+        latencies[samples % LATENCY_WINDOW] = millis;
+        samples++;
+    }
+
+    /**
+     * @return observed p95 latency or -1 if there are not enough samples yet
+     */
+    private synchronized long hedgeDelayMillis() {
+        int count = Math.min(samples, LATENCY_WINDOW);
+        if (count < MIN_SAMPLES) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return sorted[Math.min(count - 1, (int) Math.ceil(count * PERCENTILE) - 1)];
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for response", e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        } else {
+            return new RuntimeException(cause);
+        }
+    }
+}
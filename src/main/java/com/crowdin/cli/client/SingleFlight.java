@@ -0,0 +1,65 @@
+package com.crowdin.cli.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Lets identical concurrent calls share one execution. The first caller executes the call,
+ * the others wait for its result (or exception).
+ */
+class SingleFlight {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /**
+     * @param key identifies the call. Should implement equals/hashCode
+     * @param remember keep the successful result for later calls with the same key
+     * @param call call to execute
+     * @return result of the call, possibly executed by another thread
+     */
+    <T, E extends Exception> T execute(Object key, boolean remember, Call<T, E> call) throws E {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = calls.putIfAbsent(key, own);
+        if (existing != null) {
+            return this.await(existing);
+        }
+        try {
+            T result = call.call();
+            own.complete(result);
+            if (!remember) {
+                calls.remove(key, own);
+            }
+            return result;
+        } catch (Exception | Error e) {
+            calls.remove(key, own);
+            own.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, E extends Exception> T await(CompletableFuture<Object> future) throws E {
+        try {
+            return (T) future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw (E) cause;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for response", e);
+        }
+    }
+}
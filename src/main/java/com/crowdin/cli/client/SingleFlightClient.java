@@ -0,0 +1,269 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.client.core.model.PatchRequest;
+import com.crowdin.client.glossaries.model.AddGlossaryRequest;
+import com.crowdin.client.glossaries.model.ExportGlossaryRequest;
+import com.crowdin.client.glossaries.model.Glossary;
+import com.crowdin.client.glossaries.model.GlossaryExportStatus;
+import com.crowdin.client.glossaries.model.GlossaryImportStatus;
+import com.crowdin.client.glossaries.model.ImportGlossaryRequest;
+import com.crowdin.client.glossaries.model.Term;
+import com.crowdin.client.sourcefiles.model.AddBranchRequest;
+import com.crowdin.client.sourcefiles.model.AddDirectoryRequest;
+import com.crowdin.client.sourcefiles.model.AddFileRequest;
+import com.crowdin.client.sourcefiles.model.Branch;
+import com.crowdin.client.sourcefiles.model.Directory;
+import com.crowdin.client.sourcefiles.model.UpdateFileRequest;
+import com.crowdin.client.sourcestrings.model.AddSourceStringRequest;
+import com.crowdin.client.sourcestrings.model.SourceString;
+import com.crowdin.client.translationmemory.model.AddTranslationMemoryRequest;
+import com.crowdin.client.translationmemory.model.TranslationMemory;
+import com.crowdin.client.translationmemory.model.TranslationMemoryExportRequest;
+import com.crowdin.client.translationmemory.model.TranslationMemoryExportStatus;
+import com.crowdin.client.translationmemory.model.TranslationMemoryImportRequest;
+import com.crowdin.client.translationmemory.model.TranslationMemoryImportStatus;
+import com.crowdin.client.translations.model.BuildProjectTranslationRequest;
+import com.crowdin.client.translations.model.ProjectBuild;
+import com.crowdin.client.translations.model.UploadTranslationsRequest;
+import com.crowdin.client.translationstatus.model.LanguageProgress;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Client decorator that lets identical concurrent calls share one in-flight request.
+ * Successfully created directories are remembered, so repeated requests for the same directory
+ * get the same result instead of an 'already exists' error.
+ */
+class SingleFlightClient implements Client {
+
+    private final Client client;
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    SingleFlightClient(Client client) {
+        this.client = client;
+    }
+
+    @Override
+    public CrowdinProjectFull downloadFullProject() {
+        return singleFlight.execute("downloadFullProject", false, client::downloadFullProject);
+    }
+
+    @Override
+    public CrowdinProjectFull downloadFullProject(String branchName) {
+        return singleFlight.execute(Arrays.asList("downloadFullProject", branchName), false, () -> client.downloadFullProject(branchName));
+    }
+
+    @Override
+    public CrowdinProject downloadProjectWithLanguages() {
+        return singleFlight.execute("downloadProjectWithLanguages", false, client::downloadProjectWithLanguages);
+    }
+
+    @Override
+    public CrowdinProjectInfo downloadProjectInfo() {
+        return singleFlight.execute("downloadProjectInfo", false, client::downloadProjectInfo);
+    }
+
+    @Override
+    public Branch addBranch(AddBranchRequest request) {
+        return client.addBranch(request);
+    }
+
+    @Override
+    public Long uploadStorage(String fileName, InputStream content) {
+        return client.uploadStorage(fileName, content);
+    }
+
+    @Override
+    public Directory addDirectory(AddDirectoryRequest request) throws ResponseException {
+        return singleFlight.execute(
+            Arrays.asList("addDirectory", request.getName(), request.getBranchId(), request.getDirectoryId()), true,
+            () -> client.addDirectory(request));
+    }
+
+    @Override
+    public void updateSource(Long sourceId, UpdateFileRequest request) {
+        client.updateSource(sourceId, request);
+    }
+
+    @Override
+    public void addSource(AddFileRequest request) {
+        client.addSource(request);
+    }
+
+    @Override
+    public void uploadTranslations(String languageId, UploadTranslationsRequest request) {
+        client.uploadTranslations(languageId, request);
+    }
+
+    @Override
+    public ProjectBuild startBuildingTranslation(BuildProjectTranslationRequest request) {
+        return client.startBuildingTranslation(request);
+    }
+
+    @Override
+    public ProjectBuild checkBuildingTranslation(Long buildId) {
+        return client.checkBuildingTranslation(buildId);
+    }
+
+    @Override
+    public URL downloadBuild(Long buildId) {
+        return client.downloadBuild(buildId);
+    }
+
+    @Override
+    public List<LanguageProgress> getProjectProgress(String languageId) {
+        return client.getProjectProgress(languageId);
+    }
+
+    @Override
+    public SourceString addSourceString(AddSourceStringRequest request) {
+        return client.addSourceString(request);
+    }
+
+    @Override
+    public List<BatchResult<SourceString>> addSourceStrings(List<AddSourceStringRequest> requests) {
+        return client.addSourceStrings(requests);
+    }
+
+    @Override
+    public List<SourceString> listSourceString(Long fileId, String filter) {
+        return client.listSourceString(fileId, filter);
+    }
+
+    @Override
+    public Optional<SourceString> getSourceString(Long id) {
+        return singleFlight.execute(Arrays.asList("getSourceString", id), false, () -> client.getSourceString(id));
+    }
+
+    @Override
+    public List<BatchResult<Optional<SourceString>>> getSourceStrings(List<Long> ids) {
+        return client.getSourceStrings(ids);
+    }
+
+    @Override
+    public Stream<SourceString> streamSourceString(Long fileId, String filter) {
+        return client.streamSourceString(fileId, filter);
+    }
+
+    @Override
+    public void deleteSourceString(Long id) {
+        client.deleteSourceString(id);
+    }
+
+    @Override
+    public List<BatchResult<Long>> deleteSourceStrings(List<Long> ids) {
+        return client.deleteSourceStrings(ids);
+    }
+
+    @Override
+    public SourceString editSourceString(Long sourceId, List<PatchRequest> requests) {
+        return client.editSourceString(sourceId, requests);
+    }
+
+    @Override
+    public List<BatchResult<SourceString>> editSourceStrings(Map<Long, List<PatchRequest>> requests) {
+        return client.editSourceStrings(requests);
+    }
+
+    @Override
+    public List<Glossary> listGlossaries() {
+        return client.listGlossaries();
+    }
+
+    @Override
+    public Stream<Glossary> streamGlossaries() {
+        return client.streamGlossaries();
+    }
+
+    @Override
+    public Optional<Glossary> getGlossary(Long glossaryId) {
+        return singleFlight.execute(Arrays.asList("getGlossary", glossaryId), false, () -> client.getGlossary(glossaryId));
+    }
+
+    @Override
+    public Glossary addGlossary(AddGlossaryRequest request) {
+        return client.addGlossary(request);
+    }
+
+    @Override
+    public GlossaryImportStatus importGlossary(Long glossaryId, ImportGlossaryRequest request) {
+        return client.importGlossary(glossaryId, request);
+    }
+
+    @Override
+    public List<Term> listTerms(Long glossaryId) {
+        return client.listTerms(glossaryId);
+    }
+
+    @Override
+    public Stream<Term> streamTerms(Long glossaryId) {
+        return client.streamTerms(glossaryId);
+    }
+
+    @Override
+    public CompletableFuture<Stream<Term>> streamTermsAsync(Long glossaryId, Integer limit) {
+        return client.streamTermsAsync(glossaryId, limit);
+    }
+
+    @Override
+    public GlossaryExportStatus startExportingGlossary(Long glossaryId, ExportGlossaryRequest request) {
+        return client.startExportingGlossary(glossaryId, request);
+    }
+
+    @Override
+    public GlossaryExportStatus checkExportingGlossary(Long glossaryId, String exportId) {
+        return client.checkExportingGlossary(glossaryId, exportId);
+    }
+
+    @Override
+    public URL downloadGlossary(Long glossaryId, String exportId) {
+        return client.downloadGlossary(glossaryId, exportId);
+    }
+
+    @Override
+    public List<TranslationMemory> listTms() {
+        return client.listTms();
+    }
+
+    @Override
+    public Optional<TranslationMemory> getTm(Long tmId) {
+        return singleFlight.execute(Arrays.asList("getTm", tmId), false, () -> client.getTm(tmId));
+    }
+
+    @Override
+    public TranslationMemory addTm(AddTranslationMemoryRequest request) {
+        return client.addTm(request);
+    }
+
+    @Override
+    public TranslationMemoryImportStatus importTm(Long tmId, TranslationMemoryImportRequest request) {
+        return client.importTm(tmId, request);
+    }
+
+    @Override
+    public TranslationMemoryExportStatus startExportingTm(Long tmId, TranslationMemoryExportRequest request) {
+        return client.startExportingTm(tmId, request);
+    }
+
+    @Override
+    public TranslationMemoryExportStatus checkExportingTm(Long tmId, String exportId) {
+        return client.checkExportingTm(tmId, exportId);
+    }
+
+    @Override
+    public URL downloadTm(Long tmId, String exportId) {
+        return client.downloadTm(tmId, exportId);
+    }
+
+    @Override
+    public Optional<String> getStatistics() {
+        return client.getStatistics();
+    }
+}
@@ -40,13 +40,15 @@ public interface Actions {
 
     ClientAction stringList(boolean noProgress, boolean isVerbose, String file, String filter);
 
+    ClientAction stringImport(boolean noProgress, File file);
+
     ClientAction uploadSources(String branchName, boolean noProgress, boolean autoUpdate, boolean debug, boolean plainView);
 
     ClientAction uploadTranslations(
         boolean noProgress, String languageId, String branchName, boolean importEqSuggestions,
         boolean autoApproveImported, boolean debug, boolean plainView);
 
-    ClientAction glossaryList(boolean plainView, boolean isVerbose);
+    ClientAction glossaryList(boolean plainView, boolean isVerbose, Integer limit);
 
     ClientAction glossaryUpload(java.io.File file, Long id, String name, Map<String, Integer> scheme, Boolean firstLineContainsHeader);
 
@@ -21,7 +21,7 @@ class CheckNewVersionAction implements Action {
 
     private static Optional<String> getAppNewLatestVersion() {
         try {
-            List<String> versionFile = IOUtils.readLines(new URL(Utils.getLatestVersionUrl()).openStream(), "UTF-8");
+            List<String> versionFile = IOUtils.readLines(Utils.openStream(new URL(Utils.getLatestVersionUrl())), "UTF-8");
             return (versionFile.size() > 0 && !Utils.getAppVersion().equals(versionFile.get(0)))
                 ? Optional.of(versionFile.get(0))
                 : Optional.empty();
@@ -5,6 +5,7 @@ import com.crowdin.cli.commands.Actions;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Step;
 import com.crowdin.cli.commands.functionality.FilesInterface;
+import com.crowdin.cli.commands.functionality.ProjectCache;
 import com.crowdin.cli.properties.Params;
 import com.crowdin.cli.properties.PropertiesBean;
 import com.crowdin.client.glossaries.model.GlossariesFormat;
@@ -73,7 +74,8 @@ public class CliActions implements Actions {
     public ClientAction stringEdit(
         boolean noProgress, Long id, String identifier, String newText, String newContext, Integer newMaxLength, Boolean isHidden
     ) {
-        return new StringEditAction(noProgress, id, identifier, newText, newContext, newMaxLength, isHidden);
+        return new StringEditAction(
+            noProgress, id, identifier, newText, newContext, newMaxLength, isHidden, ProjectCache.getDefaultDirectory());
     }
 
     @Override
@@ -81,6 +83,11 @@ public class CliActions implements Actions {
         return new StringListAction(noProgress, isVerbose, file, filter);
     }
 
+    @Override
+    public ClientAction stringImport(boolean noProgress, File file) {
+        return new StringImportAction(noProgress, file);
+    }
+
     @Override
     public ClientAction uploadSources(String branchName, boolean noProgress, boolean autoUpdate, boolean debug, boolean plainView) {
         return new UploadSourcesAction(branchName, noProgress, autoUpdate, debug, plainView);
@@ -95,8 +102,8 @@ public class CliActions implements Actions {
     }
 
     @Override
-    public ClientAction glossaryList(boolean plainView, boolean isVerbose) {
-        return new GlossaryListAction(plainView, isVerbose);
+    public ClientAction glossaryList(boolean plainView, boolean isVerbose, Integer limit) {
+        return new GlossaryListAction(plainView, isVerbose, limit);
     }
 
     @Override
@@ -5,12 +5,15 @@ import com.crowdin.cli.client.CrowdinProjectFull;
 import com.crowdin.cli.client.LanguageMapping;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Outputter;
+import com.crowdin.cli.commands.functionality.DoubleAsteriskResolver;
 import com.crowdin.cli.commands.functionality.FilesInterface;
 import com.crowdin.cli.commands.functionality.ProjectFilesUtils;
 import com.crowdin.cli.commands.functionality.PropertiesBeanUtils;
-import com.crowdin.cli.commands.functionality.SourcesUtils;
-import com.crowdin.cli.commands.functionality.TranslationsUtils;
+import com.crowdin.cli.commands.functionality.SourcesScan;
+import com.crowdin.cli.properties.FileBean;
 import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.properties.helper.DirectoryIndex;
+import com.crowdin.cli.utils.PlaceholderTemplate;
 import com.crowdin.cli.utils.PlaceholderUtil;
 import com.crowdin.cli.utils.Utils;
 import com.crowdin.cli.utils.console.ConsoleSpinner;
@@ -35,6 +38,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
 import static com.crowdin.cli.utils.console.ExecutionStatus.OK;
@@ -77,9 +81,10 @@ class DownloadAction implements ClientAction {
         this.out = out;
         boolean isOrganization = PropertiesBeanUtils.isOrganization(pb.getBaseUrl());
 
+        SourcesScan sourcesScan = SourcesScan.start(pb.getBasePath(), pb.getFiles(), new DirectoryIndex());
         CrowdinProjectFull project = ConsoleSpinner
             .execute(out, "message.spinner.fetching_project_info", "error.collect_project_info",
-                this.noProgress, this.plainView, client::downloadFullProject);
+                this.noProgress, this.plainView, () -> client.downloadFullProject(this.branchName));
 
         if (!project.isManagerAccess()) {
             if (!plainView) {
@@ -152,27 +157,12 @@ class DownloadAction implements ClientAction {
             .map(Collections::singletonList)
             .orElse(project.getProjectLanguages(true));
 
-        Map<String, String> filesWithMapping = pb.getFiles().stream()
-            .map(file -> {
-                List<String> sources =
-                    SourcesUtils.getFiles(pb.getBasePath(), file.getSource(), file.getIgnore(), placeholderUtil)
-                        .map(File::getAbsolutePath)
-                        .collect(Collectors.toList());
-                LanguageMapping localLanguageMapping = LanguageMapping.fromConfigFileLanguageMapping(file.getLanguagesMapping());
-                LanguageMapping languageMapping = LanguageMapping.populate(localLanguageMapping, serverLanguageMapping);
-                Map<String, String> translationReplace =
-                    file.getTranslationReplace() != null ? file.getTranslationReplace() : new HashMap<>();
-                return this.doTranslationMapping(
-                    forLanguages, file.getTranslation(), serverLanguageMapping, languageMapping,
-                    translationReplace, sources, file.getSource(), pb.getBasePath(), placeholderUtil);
-            })
-            .flatMap(map -> map.entrySet().stream())
-            .distinct()
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        Map<String, String> filesWithMapping =
+            this.doTranslationMapping(pb, forLanguages, serverLanguageMapping, sourcesScan, placeholderUtil);
 
         Map<Long, String> directoryPaths = (branch.isPresent())
-            ? ProjectFilesUtils.buildDirectoryPaths(project.getDirectories())
-            : ProjectFilesUtils.buildDirectoryPaths(project.getDirectories(), project.getBranches());
+            ? project.getIndex().getDirectoryPaths()
+            : project.getIndex().getDirectoryPathsWithBranches();
         Map<String, List<String>> allProjectTranslations = ProjectFilesUtils
                 .buildAllProjectTranslations(
                     project.getFiles(), directoryPaths, branch.map(Branch::getId),
@@ -294,41 +284,91 @@ class DownloadAction implements ClientAction {
         }
     }
 
+    /**
+     * Maps translation paths of the project to local ones. Every file group and language is mapped as a separate
+     * task, in parallel; results are merged in the order of file groups and languages, so later languages
+     * override earlier ones inside a file group and conflicting paths of different file groups fail as before.
+     */
     private Map<String, String> doTranslationMapping(
+        PropertiesBean pb,
         List<Language> languages,
-        String translation,
+        LanguageMapping projLanguageMapping,
+        SourcesScan sourcesScan,
+        PlaceholderUtil placeholderUtil
+    ) {
+        List<FileBean> fileBeans = pb.getFiles();
+        List<List<String>> sources = new ArrayList<>();
+        List<LanguageMapping> languageMappings = new ArrayList<>();
+        List<DoubleAsteriskResolver> doubleAsteriskResolvers = new ArrayList<>();
+        List<PlaceholderTemplate> translationTemplates = new ArrayList<>();
+        for (FileBean file : fileBeans) {
+            sources.add(sourcesScan.getFiles(file, placeholderUtil)
+                .map(File::getAbsolutePath)
+                .collect(Collectors.toList()));
+            LanguageMapping localLanguageMapping = LanguageMapping.fromConfigFileLanguageMapping(file.getLanguagesMapping());
+            languageMappings.add(LanguageMapping.populate(localLanguageMapping, projLanguageMapping));
+            doubleAsteriskResolvers.add(new DoubleAsteriskResolver(file.getSource()));
+            String translation = StringUtils.startsWith(file.getTranslation(), Utils.PATH_SEPARATOR)
+                ? file.getTranslation()
+                : Utils.PATH_SEPARATOR + file.getTranslation();
+            translationTemplates.add(PlaceholderUtil.parseLanguagePlaceholders(translation));
+        }
+
+        List<Map<String, String>> mappings = IntStream.range(0, fileBeans.size() * languages.size())
+            .parallel()
+            .mapToObj(task -> {
+                int fileIndex = task / languages.size();
+                FileBean file = fileBeans.get(fileIndex);
+                Map<String, String> translationReplace =
+                    file.getTranslationReplace() != null ? file.getTranslationReplace() : new HashMap<>();
+                return this.doTranslationMapping(
+                    languages.get(task % languages.size()), translationTemplates.get(fileIndex), projLanguageMapping,
+                    languageMappings.get(fileIndex), translationReplace, sources.get(fileIndex),
+                    doubleAsteriskResolvers.get(fileIndex), pb.getBasePath(), placeholderUtil);
+            })
+            .collect(Collectors.toList());
+
+        return IntStream.range(0, fileBeans.size())
+            .mapToObj(fileIndex -> {
+                Map<String, String> fileMapping = new HashMap<>();
+                mappings.subList(fileIndex * languages.size(), (fileIndex + 1) * languages.size())
+                    .forEach(fileMapping::putAll);
+                return fileMapping;
+            })
+            .flatMap(map -> map.entrySet().stream())
+            .distinct()
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private Map<String, String> doTranslationMapping(
+        Language language,
+        PlaceholderTemplate translation,
         LanguageMapping projLanguageMapping,
         LanguageMapping languageMapping,
         Map<String, String> translationReplace,
         List<String> sources,
-        String source,
+        DoubleAsteriskResolver doubleAsteriskResolver,
         String basePath,
         PlaceholderUtil placeholderUtil
     ) {
         Map<String, String> mapping = new HashMap<>();
 
-        for (Language language : languages) {
-
-            if (!StringUtils.startsWith(translation, Utils.PATH_SEPARATOR)) {
-                translation = Utils.PATH_SEPARATOR + translation;
-            }
-            String translationProject1 =
-                placeholderUtil.replaceLanguageDependentPlaceholders(translation, projLanguageMapping, language);
-            String translationFile1 =
-                placeholderUtil.replaceLanguageDependentPlaceholders(translation, languageMapping, language);
-
-            for (String projectFile : sources) {
-                String file = StringUtils.removeStart(projectFile, basePath);
-                String translationProject2 = TranslationsUtils.replaceDoubleAsterisk(source, translationProject1, file);
-                String translationFile2 = TranslationsUtils.replaceDoubleAsterisk(source, translationFile1, file);
-
-                translationProject2 =
-                    placeholderUtil.replaceFileDependentPlaceholders(translationProject2, new File(projectFile));
-                translationFile2 =
-                    placeholderUtil.replaceFileDependentPlaceholders(translationFile2, new File(projectFile));
-                translationFile2 = PropertiesBeanUtils.useTranslationReplace(translationFile2, translationReplace);
-                mapping.put(translationProject2, translationFile2);
-            }
+        String translationProject1 =
+            placeholderUtil.replaceLanguageDependentPlaceholders(translation, projLanguageMapping, language);
+        String translationFile1 =
+            placeholderUtil.replaceLanguageDependentPlaceholders(translation, languageMapping, language);
+
+        for (String projectFile : sources) {
+            String file = StringUtils.removeStart(projectFile, basePath);
+            String translationProject2 = doubleAsteriskResolver.replaceDoubleAsterisk(translationProject1, file);
+            String translationFile2 = doubleAsteriskResolver.replaceDoubleAsterisk(translationFile1, file);
+
+            translationProject2 =
+                placeholderUtil.replaceFileDependentPlaceholders(translationProject2, new File(projectFile));
+            translationFile2 =
+                placeholderUtil.replaceFileDependentPlaceholders(translationFile2, new File(projectFile));
+            translationFile2 = PropertiesBeanUtils.useTranslationReplace(translationFile2, translationReplace);
+            mapping.put(translationProject2, translationFile2);
         }
         return mapping;
     }
@@ -337,7 +377,7 @@ class DownloadAction implements ClientAction {
         URL url = ConsoleSpinner
             .execute(out, "message.spinner.downloading_translation", "error.downloading_file",
                 this.noProgress, this.plainView, () -> client.downloadBuild(buildId));
-        try (InputStream data = url.openStream()) {
+        try (InputStream data = Utils.openStream(url)) {
             files.writeToFile(archivePath, data);
         } catch (IOException e) {
             throw new RuntimeException(String.format(RESOURCE_BUNDLE.getString("error.write_file"), archivePath), e);
@@ -6,6 +6,7 @@ import com.crowdin.cli.commands.Outputter;
 import com.crowdin.cli.commands.functionality.FilesInterface;
 import com.crowdin.cli.commands.functionality.RequestBuilder;
 import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.utils.Utils;
 import com.crowdin.cli.utils.console.ConsoleSpinner;
 import com.crowdin.client.glossaries.model.ExportGlossaryRequest;
 import com.crowdin.client.glossaries.model.GlossariesFormat;
@@ -88,7 +89,7 @@ class GlossaryDownloadAction implements ClientAction {
 
     private void downloadGlossary(Client client, Long glossaryId, String exportId) {
         URL url = client.downloadGlossary(glossaryId, exportId);
-        try (InputStream data = url.openStream()) {
+        try (InputStream data = Utils.openStream(url)) {
             files.writeToFile(to.toString(), data);
         } catch (IOException e) {
             throw new RuntimeException(String.format(RESOURCE_BUNDLE.getString("error.write_file"), to), e);
@@ -7,38 +7,90 @@ import com.crowdin.cli.properties.PropertiesBean;
 import com.crowdin.client.glossaries.model.Glossary;
 import com.crowdin.client.glossaries.model.Term;
 
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
 import static com.crowdin.cli.utils.console.ExecutionStatus.OK;
 
+/**
+ * With terms, the first page of terms of the next glossaries is fetched while the current one is printed,
+ * so glossaries are still printed in order, but a few of them are waited for at once.
+ * Terms of the current glossary are printed as their pages arrive.
+ */
 class GlossaryListAction implements ClientAction {
 
+    static final int GLOSSARIES_AHEAD = 8;
+
     private final boolean isVerbose;
     private final boolean plainView;
+    private final Integer limit;
 
     public GlossaryListAction(boolean plainView, boolean isVerbose) {
+        this(plainView, isVerbose, null);
+    }
+
+    /**
+     * @param limit maximum number of terms to show for each glossary, all terms if null
+     */
+    public GlossaryListAction(boolean plainView, boolean isVerbose, Integer limit) {
         this.plainView = plainView;
         this.isVerbose = isVerbose;
+        this.limit = limit;
     }
 
     @Override
     public void act(Outputter out, PropertiesBean pb, Client client) {
-        List<Glossary> glossaries = client.listGlossaries();
-        for (Glossary glossary : glossaries) {
-            if (!plainView) {
-                out.println(OK.withIcon(
-                    String.format(RESOURCE_BUNDLE.getString("message.glossary.list"), glossary.getName(), glossary.getId(), glossary.getTerms())));
-                if (isVerbose) {
-                    List<Term> terms = client.listTerms(glossary.getId());
-                    for (Term term : terms) {
-                        out.println(String.format(
-                            RESOURCE_BUNDLE.getString("message.glossary.list_term"), term.getId(), term.getText(), term.getDescription()));
-                    }
+        if (plainView || !isVerbose) {
+            client.streamGlossaries().forEach(glossary -> {
+                if (!plainView) {
+                    this.printGlossary(out, glossary);
+                } else {
+                    out.println(glossary.getName());
                 }
-            } else {
-                out.println(glossary.getName());
+            });
+            return;
+        }
+        Deque<Pending> pending = new ArrayDeque<>();
+        client.streamGlossaries().forEach(glossary -> {
+            pending.add(new Pending(glossary, client.streamTermsAsync(glossary.getId(), limit)));
+            if (pending.size() > GLOSSARIES_AHEAD) {
+                this.print(out, pending.poll());
             }
+        });
+        while (!pending.isEmpty()) {
+            this.print(out, pending.poll());
+        }
+    }
+
+    private void print(Outputter out, Pending pending) {
+        Stream<Term> terms;
+        try {
+            terms = pending.terms.join();
+        } catch (CompletionException e) {
+            throw (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : e;
+        }
+        this.printGlossary(out, pending.glossary);
+        terms.forEach(term -> out.println(String.format(
+            RESOURCE_BUNDLE.getString("message.glossary.list_term"), term.getId(), term.getText(), term.getDescription())));
+    }
+
+    private void printGlossary(Outputter out, Glossary glossary) {
+        out.println(OK.withIcon(
+            String.format(RESOURCE_BUNDLE.getString("message.glossary.list"), glossary.getName(), glossary.getId(), glossary.getTerms())));
+    }
+
+    private static final class Pending {
+
+        private final Glossary glossary;
+        private final CompletableFuture<Stream<Term>> terms;
+
+        private Pending(Glossary glossary, CompletableFuture<Stream<Term>> terms) {
+            this.glossary = glossary;
+            this.terms = terms;
         }
     }
 }
@@ -6,11 +6,11 @@ import com.crowdin.cli.commands.Outputter;
 import com.crowdin.cli.commands.functionality.PropertiesBeanUtils;
 import com.crowdin.cli.commands.functionality.RequestBuilder;
 import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.utils.file.FileChannelInputStream;
 import com.crowdin.client.glossaries.model.AddGlossaryRequest;
 import com.crowdin.client.glossaries.model.Glossary;
 import lombok.NonNull;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
@@ -62,7 +62,7 @@ class GlossaryUploadAction implements ClientAction {
             targetGlossary = client.addGlossary(addGlossaryRequest);
         }
         Long storageId;
-        try (InputStream fileStream = new FileInputStream(file)) {
+        try (InputStream fileStream = new FileChannelInputStream(file)) {
             storageId = client.uploadStorage(file.getName(), fileStream);
         } catch (Exception e) {
             throw new RuntimeException(RESOURCE_BUNDLE.getString("error.upload_to_storage"), e);
@@ -30,7 +30,7 @@ class ListProjectAction implements ClientAction {
     public void act(Outputter out, PropertiesBean pb, Client client) {
         CrowdinProjectFull project = ConsoleSpinner
             .execute(out, "message.spinner.fetching_project_info", "error.collect_project_info",
-                this.noProgress, this.plainView, client::downloadFullProject);
+                this.noProgress, this.plainView, () -> client.downloadFullProject(this.branchName));
 
         Long branchId = (StringUtils.isNotEmpty(this.branchName))
             ? project.findBranchByName(this.branchName)
@@ -38,6 +38,6 @@ class ListProjectAction implements ClientAction {
                 .orElseThrow(() -> new RuntimeException(RESOURCE_BUNDLE.getString("error.not_found_branch")))
             : null;
 
-        (new DryrunProjectFiles(project.getFileInfos(), project.getDirectories(), project.getBranches(), branchId)).run(out, treeView, plainView);
+        (new DryrunProjectFiles(project.getIndex(), branchId)).run(out, treeView, plainView);
     }
 }
@@ -5,7 +5,9 @@ import com.crowdin.cli.client.CrowdinProject;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Outputter;
 import com.crowdin.cli.commands.functionality.DryrunSources;
+import com.crowdin.cli.commands.functionality.SourcesScan;
 import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.properties.helper.DirectoryIndex;
 import com.crowdin.cli.utils.PlaceholderUtil;
 import com.crowdin.cli.utils.console.ConsoleSpinner;
 
@@ -23,11 +25,12 @@ class ListSourcesAction implements ClientAction {
 
     @Override
     public void act(Outputter out, PropertiesBean pb, Client client) {
+        SourcesScan sourcesScan = SourcesScan.start(pb.getBasePath(), pb.getFiles(), new DirectoryIndex());
         CrowdinProject project = ConsoleSpinner
             .execute(out, "message.spinner.fetching_project_info", "error.collect_project_info",
                 this.noProgress, this.plainView, client::downloadProjectWithLanguages);
         PlaceholderUtil placeholderUtil = new PlaceholderUtil(project.getSupportedLanguages(), project.getProjectLanguages(false), pb.getBasePath());
 
-        (new DryrunSources(pb, placeholderUtil)).run(out, treeView, plainView);
+        (new DryrunSources(pb, placeholderUtil, sourcesScan)).run(out, treeView, plainView);
     }
 }
@@ -5,7 +5,9 @@ import com.crowdin.cli.client.CrowdinProject;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Outputter;
 import com.crowdin.cli.commands.functionality.DryrunTranslations;
+import com.crowdin.cli.commands.functionality.SourcesScan;
 import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.properties.helper.DirectoryIndex;
 import com.crowdin.cli.utils.PlaceholderUtil;
 import com.crowdin.cli.utils.console.ConsoleSpinner;
 
@@ -30,6 +32,7 @@ class ListTranslationsAction implements ClientAction {
 
     @Override
     public void act(Outputter out, PropertiesBean pb, Client client) {
+        SourcesScan sourcesScan = SourcesScan.start(pb.getBasePath(), pb.getFiles(), new DirectoryIndex());
         CrowdinProject project = ConsoleSpinner.execute(out, "message.spinner.fetching_project_info", "error.collect_project_info",
             this.noProgress, this.plainView, client::downloadProjectWithLanguages);
 
@@ -45,7 +48,7 @@ class ListTranslationsAction implements ClientAction {
         PlaceholderUtil placeholderUtil = new PlaceholderUtil(
             project.getSupportedLanguages(), project.getProjectLanguages(!isLocal), pb.getBasePath());
 
-        (new DryrunTranslations(pb, project.getLanguageMapping(), placeholderUtil, Optional.empty(), false))
+        (new DryrunTranslations(pb, project.getLanguageMapping(), placeholderUtil, Optional.empty(), false, sourcesScan))
             .run(out, treeView, plainView);
     }
 }
@@ -1,21 +1,24 @@
 package com.crowdin.cli.commands.actions;
 
+import com.crowdin.cli.client.BatchResult;
 import com.crowdin.cli.client.Client;
 import com.crowdin.cli.client.CrowdinProjectFull;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Outputter;
-import com.crowdin.cli.commands.functionality.ProjectFilesUtils;
 import com.crowdin.cli.commands.functionality.RequestBuilder;
 import com.crowdin.cli.properties.PropertiesBean;
 import com.crowdin.cli.utils.console.ConsoleSpinner;
 import com.crowdin.client.sourcefiles.model.File;
 import com.crowdin.client.sourcefiles.model.FileInfo;
 import com.crowdin.client.sourcestrings.model.AddSourceStringRequest;
+import com.crowdin.client.sourcestrings.model.SourceString;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
+import static com.crowdin.cli.utils.console.ExecutionStatus.ERROR;
 import static com.crowdin.cli.utils.console.ExecutionStatus.OK;
 import static com.crowdin.cli.utils.console.ExecutionStatus.WARNING;
 
@@ -51,8 +54,10 @@ class StringAddAction implements ClientAction {
             client.addSourceString(request);
             out.println(OK.withIcon(RESOURCE_BUNDLE.getString("message.source_string_uploaded")));
         } else {
-            Map<String, FileInfo> paths = ProjectFilesUtils.buildFilePaths(project.getDirectories(), project.getBranches(), project.getFileInfos());
+            Map<String, FileInfo> paths = project.getIndex().getFilePaths();
             boolean containsError = false;
+            List<String> foundFiles = new ArrayList<>();
+            List<AddSourceStringRequest> requests = new ArrayList<>();
             for (String file : files) {
                 if (!paths.containsKey(file)) {
                     if (files.size() > 1) {
@@ -65,13 +70,24 @@ class StringAddAction implements ClientAction {
                 }
                 Long fileId = paths.get(file).getId();
 
-                AddSourceStringRequest request =
-                    RequestBuilder.addString(this.text, this.identifier, this.maxLength, this.context, fileId, this.hidden);
-                client.addSourceString(request);
-                out.println(OK.withIcon(String.format(RESOURCE_BUNDLE.getString("message.source_string_for_file_uploaded"), file)));
+                foundFiles.add(file);
+                requests.add(RequestBuilder.addString(this.text, this.identifier, this.maxLength, this.context, fileId, this.hidden));
+            }
+            List<BatchResult<SourceString>> results = (!requests.isEmpty()) ? client.addSourceStrings(requests) : new ArrayList<>();
+            for (int i = 0; i < foundFiles.size(); i++) {
+                if (results.get(i).isSuccess()) {
+                    out.println(OK.withIcon(String.format(RESOURCE_BUNDLE.getString("message.source_string_for_file_uploaded"), foundFiles.get(i))));
+                }
+            }
+            for (int i = 0; i < foundFiles.size(); i++) {
+                if (!results.get(i).isSuccess()) {
+                    containsError = true;
+                    out.println(ERROR.withIcon(String.format(RESOURCE_BUNDLE.getString("error.source_string_for_file_not_uploaded"),
+                        foundFiles.get(i), results.get(i).getError().getMessage())));
+                }
             }
             if (containsError) {
-                throw new RuntimeException();
+                throw new RuntimeException(RESOURCE_BUNDLE.getString("error.execution_contains_errors"));
             }
         }
 
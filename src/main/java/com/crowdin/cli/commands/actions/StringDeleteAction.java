@@ -1,36 +1,43 @@
 package com.crowdin.cli.commands.actions;
 
+import com.crowdin.cli.client.BatchResult;
 import com.crowdin.cli.client.Client;
 import com.crowdin.cli.client.CrowdinProjectFull;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Outputter;
-import com.crowdin.cli.commands.functionality.ProjectFilesUtils;
 import com.crowdin.cli.properties.PropertiesBean;
 import com.crowdin.cli.utils.console.ConsoleSpinner;
 import com.crowdin.client.sourcefiles.model.File;
 import com.crowdin.client.sourcefiles.model.FileInfo;
 import com.crowdin.client.sourcestrings.model.SourceString;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
+import static com.crowdin.cli.utils.console.ExecutionStatus.ERROR;
 import static com.crowdin.cli.utils.console.ExecutionStatus.OK;
 import static com.crowdin.cli.utils.console.ExecutionStatus.WARNING;
 
 class StringDeleteAction implements ClientAction {
 
     private final boolean noProgress;
-    private final List<Long> ids;
-    private final List<String> texts;
-    private final List<String> identifiers;
+    private final Set<Long> ids;
+    private final Set<String> texts;
+    private final Set<String> identifiers;
 
     public StringDeleteAction(boolean noProgress, List<Long> ids, List<String> texts, List<String> identifiers) {
         this.noProgress = noProgress;
-        this.ids = ids;
-        this.texts = texts;
-        this.identifiers = identifiers;
+        this.ids = (ids != null) ? new LinkedHashSet<>(ids) : Collections.emptySet();
+        this.texts = (texts != null) ? new LinkedHashSet<>(texts) : Collections.emptySet();
+        this.identifiers = (identifiers != null) ? new LinkedHashSet<>(identifiers) : Collections.emptySet();
     }
 
     @Override
@@ -38,26 +45,62 @@ class StringDeleteAction implements ClientAction {
         CrowdinProjectFull project = ConsoleSpinner.execute(out, "message.spinner.fetching_project_info", "error.collect_project_info",
             this.noProgress, false, client::downloadFullProject);
 
-        Map<Long, String> paths = ProjectFilesUtils.buildFilePaths(project.getDirectories(), project.getBranches(), project.getFiles())
-            .entrySet()
-            .stream()
-            .collect(Collectors.toMap((entry) -> entry.getValue().getId(), Map.Entry::getKey));
-
-        List<SourceString> sourceStrings = client.listSourceString(null, null)
-            .stream()
-            .filter(sourceString -> (ids != null && ids.contains(sourceString.getId()))
-                || (texts != null && sourceString.getText() instanceof String && texts.contains(sourceString.getText()))
-                || (identifiers != null && identifiers.contains(sourceString.getIdentifier())))
-            .collect(Collectors.toList());
-
-        for (SourceString sourceString : sourceStrings) {
-            client.deleteSourceString(sourceString.getId());
-            out.println(OK.withIcon(String.format(RESOURCE_BUNDLE.getString("message.source_string_deleted"),
-                sourceString.getText(), sourceString.getId(), paths.get(sourceString.getFileId()))));
+        if (!project.isManagerAccess()) {
+            throw new RuntimeException(RESOURCE_BUNDLE.getString("message.no_manager_access"));
+        }
+        Map<Long, SourceString> found = new LinkedHashMap<>();
+        if (!ids.isEmpty()) {
+            for (BatchResult<Optional<SourceString>> result : client.getSourceStrings(new ArrayList<>(ids))) {
+                if (!result.isSuccess()) {
+                    throw result.getError();
+                }
+                result.getResult().ifPresent(sourceString -> found.put(sourceString.getId(), sourceString));
+            }
+        }
+        for (String text : texts) {
+            client.listSourceString(null, text)
+                .stream()
+                .filter(sourceString -> sourceString.getText() instanceof String && texts.contains(sourceString.getText()))
+                .forEach(sourceString -> found.putIfAbsent(sourceString.getId(), sourceString));
+        }
+        for (String identifier : identifiers) {
+            client.listSourceString(null, identifier)
+                .stream()
+                .filter(sourceString -> identifiers.contains(sourceString.getIdentifier()))
+                .forEach(sourceString -> found.putIfAbsent(sourceString.getId(), sourceString));
         }
+        List<SourceString> sourceStrings = new ArrayList<>(found.values());
+
+        Map<Long, String> paths = (sourceStrings.stream().anyMatch(sourceString -> sourceString.getFileId() != null))
+            ? project.getIndex().getFilePaths()
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap((entry) -> entry.getValue().getId(), Map.Entry::getKey))
+            : Collections.emptyMap();
 
         if (sourceStrings.isEmpty()) {
             throw new RuntimeException(RESOURCE_BUNDLE.getString("error.source_string_not_found"));
         }
+
+        List<BatchResult<Long>> results = client.deleteSourceStrings(sourceStrings.stream().map(SourceString::getId).collect(Collectors.toList()));
+        for (int i = 0; i < sourceStrings.size(); i++) {
+            SourceString sourceString = sourceStrings.get(i);
+            if (results.get(i).isSuccess()) {
+                out.println(OK.withIcon(String.format(RESOURCE_BUNDLE.getString("message.source_string_deleted"),
+                    sourceString.getText(), sourceString.getId(), paths.get(sourceString.getFileId()))));
+            }
+        }
+        boolean containsError = false;
+        for (int i = 0; i < sourceStrings.size(); i++) {
+            SourceString sourceString = sourceStrings.get(i);
+            if (!results.get(i).isSuccess()) {
+                containsError = true;
+                out.println(ERROR.withIcon(String.format(RESOURCE_BUNDLE.getString("error.source_string_not_deleted"),
+                    sourceString.getText(), sourceString.getId(), results.get(i).getError().getMessage())));
+            }
+        }
+        if (containsError) {
+            throw new RuntimeException(RESOURCE_BUNDLE.getString("error.execution_contains_errors"));
+        }
     }
 }
@@ -3,14 +3,18 @@ package com.crowdin.cli.commands.actions;
 import com.crowdin.cli.client.Client;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Outputter;
+import com.crowdin.cli.commands.functionality.ProjectCache;
 import com.crowdin.cli.commands.functionality.RequestBuilder;
+import com.crowdin.cli.commands.functionality.SourceStringIdentifiers;
 import com.crowdin.cli.properties.PropertiesBean;
 import com.crowdin.client.core.model.PatchOperation;
 import com.crowdin.client.core.model.PatchRequest;
 import com.crowdin.client.sourcestrings.model.SourceString;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
 import static com.crowdin.cli.utils.console.ExecutionStatus.OK;
@@ -24,9 +28,20 @@ class StringEditAction implements ClientAction {
     private final String newContext;
     private final Integer newMaxLength;
     private final Boolean isHidden;
+    private final File cacheDir;
 
     public StringEditAction(
         boolean noProgress, Long id, String identifier, String newText, String newContext, Integer newMaxLength, Boolean isHidden
+    ) {
+        this(noProgress, id, identifier, newText, newContext, newMaxLength, isHidden, null);
+    }
+
+    /**
+     * @param cacheDir directory for the identifier index, see {@link ProjectCache}. Strings are always looked up on the server if null
+     */
+    public StringEditAction(
+        boolean noProgress, Long id, String identifier, String newText, String newContext, Integer newMaxLength, Boolean isHidden,
+        File cacheDir
     ) {
         this.noProgress = noProgress;
         this.id = id;
@@ -35,29 +50,23 @@ class StringEditAction implements ClientAction {
         this.newContext = newContext;
         this.newMaxLength = newMaxLength;
         this.isHidden = isHidden;
+        this.cacheDir = cacheDir;
     }
 
     @Override
     public void act(Outputter out, PropertiesBean pb, Client client) {
 
-        List<SourceString> sourceStrings = client.listSourceString(null, null);
-
-        Long foundStringId;
+        Optional<SourceString> foundString;
         if (id != null) {
-            foundStringId = sourceStrings.stream()
-                .filter(ss -> id.equals(ss.getId()))
-                .findAny()
-                .orElseThrow(() -> new RuntimeException(RESOURCE_BUNDLE.getString("error.source_string_not_found")))
-                .getId();
+            foundString = client.getSourceString(id);
         } else if (identifier != null) {
-            foundStringId = sourceStrings.stream()
-                .filter(ss -> identifier.equals(ss.getIdentifier()))
-                .findAny()
-                .orElseThrow(() -> new RuntimeException(RESOURCE_BUNDLE.getString("error.source_string_not_found")))
-                .getId();
+            foundString = this.findByIdentifier(pb, client);
         } else {
             throw new RuntimeException("Unexpected error: no 'id' or 'identifier' specified");
         }
+        Long foundStringId = foundString
+            .orElseThrow(() -> new RuntimeException(RESOURCE_BUNDLE.getString("error.source_string_not_found")))
+            .getId();
 
         List<PatchRequest> requests = new ArrayList<>();
         if (newText != null) {
@@ -80,4 +89,18 @@ class StringEditAction implements ClientAction {
         client.editSourceString(foundStringId, requests);
         out.println(OK.withIcon(String.format(RESOURCE_BUNDLE.getString("message.source_string_updated"), foundStringId)));
     }
+
+    private Optional<SourceString> findByIdentifier(PropertiesBean pb, Client client) {
+        if (cacheDir == null) {
+            return client.listSourceString(null, identifier)
+                .stream()
+                .filter(ss -> identifier.equals(ss.getIdentifier()))
+                .findAny();
+        }
+        SourceStringIdentifiers identifiers = SourceStringIdentifiers.load(
+            ProjectCache.getFile(cacheDir, pb, SourceStringIdentifiers.FILE_NAME));
+        Optional<SourceString> found = identifiers.find(client, identifier);
+        identifiers.save();
+        return found;
+    }
 }
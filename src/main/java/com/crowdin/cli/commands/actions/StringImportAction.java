@@ -0,0 +1,131 @@
+package com.crowdin.cli.commands.actions;
+
+import com.crowdin.cli.client.BatchResult;
+import com.crowdin.cli.client.Client;
+import com.crowdin.cli.client.CrowdinProjectFull;
+import com.crowdin.cli.commands.ClientAction;
+import com.crowdin.cli.commands.Outputter;
+import com.crowdin.cli.commands.functionality.RequestBuilder;
+import com.crowdin.cli.commands.functionality.SourceStringsReader;
+import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.utils.Utils;
+import com.crowdin.cli.utils.console.ConsoleSpinner;
+import com.crowdin.client.sourcefiles.model.FileInfo;
+import com.crowdin.client.sourcestrings.model.AddSourceStringRequest;
+import com.crowdin.client.sourcestrings.model.SourceString;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
+import static com.crowdin.cli.utils.console.ExecutionStatus.OK;
+import static com.crowdin.cli.utils.console.ExecutionStatus.WARNING;
+
+/**
+ * Adds source strings from a file. Entries are read in batches, and every batch is sent as a batched request
+ * before the next one is read, so the file is never held in memory as a whole.
+ */
+class StringImportAction implements ClientAction {
+
+    static final int BATCH_SIZE = 500;
+
+    private final boolean noProgress;
+    private final File file;
+
+    public StringImportAction(boolean noProgress, File file) {
+        this.noProgress = noProgress;
+        this.file = file;
+    }
+
+    @Override
+    public void act(Outputter out, PropertiesBean pb, Client client) {
+        CrowdinProjectFull project = ConsoleSpinner.execute(out, "message.spinner.fetching_project_info", "error.collect_project_info",
+            this.noProgress, false, client::downloadFullProject);
+
+        Map<String, FileInfo> paths = project.getIndex().getFilePaths();
+        Map<String, Optional<Long>> fileIds = new HashMap<>();
+        Map<Integer, String> errors = new TreeMap<>();
+        List<Integer> rows = new ArrayList<>();
+        List<AddSourceStringRequest> batch = new ArrayList<>();
+        int imported = 0;
+        int failed = 0;
+        long start = System.currentTimeMillis();
+
+        try (SourceStringsReader reader = SourceStringsReader.open(file)) {
+            for (SourceStringsReader.Entry entry = reader.next(); entry != null; entry = reader.next()) {
+                String error = entry.getError();
+                Long fileId = null;
+                if (error == null && entry.getFile() != null) {
+                    String path = StringUtils.removeStart(Utils.normalizePath(entry.getFile()), Utils.PATH_SEPARATOR);
+                    Optional<Long> foundId = fileIds.computeIfAbsent(path, p -> Optional.ofNullable(paths.get(p)).map(FileInfo::getId));
+                    if (foundId.isPresent()) {
+                        fileId = foundId.get();
+                    } else {
+                        error = String.format(RESOURCE_BUNDLE.getString("error.file_not_exists"), path);
+                    }
+                }
+                if (error != null) {
+                    errors.put(entry.getRow(), error);
+                    failed++;
+                    continue;
+                }
+                rows.add(entry.getRow());
+                batch.add(RequestBuilder.addString(
+                    entry.getText(), entry.getIdentifier(), entry.getMaxLength(), entry.getContext(), fileId, null));
+                if (batch.size() == BATCH_SIZE) {
+                    int batchFailed = this.send(client, rows, batch, errors);
+                    imported += batch.size() - batchFailed;
+                    failed += batchFailed;
+                    rows.clear();
+                    batch.clear();
+                    if (!noProgress) {
+                        out.println(String.format(RESOURCE_BUNDLE.getString("message.string_import_progress"),
+                            imported, failed, this.perSecond(imported, start)));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(String.format(RESOURCE_BUNDLE.getString("error.string_import.read"), file), e);
+        }
+        if (!batch.isEmpty()) {
+            int batchFailed = this.send(client, rows, batch, errors);
+            imported += batch.size() - batchFailed;
+            failed += batchFailed;
+        }
+
+        out.println(OK.withIcon(String.format(RESOURCE_BUNDLE.getString("message.string_import_finished"),
+            imported, imported + failed, (System.currentTimeMillis() - start) / 1000.0, this.perSecond(imported, start))));
+        if (!errors.isEmpty()) {
+            errors.forEach((row, error) -> out.println(
+                WARNING.withIcon(String.format(RESOURCE_BUNDLE.getString("message.string_import_row_error"), row, error))));
+            throw new RuntimeException(RESOURCE_BUNDLE.getString("error.execution_contains_errors"));
+        }
+    }
+
+    /**
+     * @param rows rows of the requests, in the same order
+     * @return number of failed strings of the batch. Their errors are added by rows
+     */
+    private int send(Client client, List<Integer> rows, List<AddSourceStringRequest> batch, Map<Integer, String> errors) {
+        List<BatchResult<SourceString>> results = client.addSourceStrings(new ArrayList<>(batch));
+        int failed = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (!results.get(i).isSuccess()) {
+                failed++;
+                errors.put(rows.get(i), results.get(i).getError().getMessage());
+            }
+        }
+        return failed;
+    }
+
+    private long perSecond(int count, long start) {
+        return count * 1000L / Math.max(1, System.currentTimeMillis() - start);
+    }
+}
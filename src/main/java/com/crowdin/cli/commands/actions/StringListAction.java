@@ -4,7 +4,6 @@ import com.crowdin.cli.client.Client;
 import com.crowdin.cli.client.CrowdinProjectFull;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Outputter;
-import com.crowdin.cli.commands.functionality.ProjectFilesUtils;
 import com.crowdin.cli.properties.PropertiesBean;
 import com.crowdin.cli.utils.console.ConsoleSpinner;
 import com.crowdin.client.sourcefiles.model.File;
@@ -12,10 +11,8 @@ import com.crowdin.client.sourcefiles.model.FileInfo;
 import com.crowdin.client.sourcestrings.model.SourceString;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -41,32 +38,27 @@ class StringListAction implements ClientAction {
         CrowdinProjectFull project = ConsoleSpinner.execute(out, "message.spinner.fetching_project_info", "error.collect_project_info",
             this.noProgress, false, client::downloadFullProject);
 
-        Map<String, FileInfo> paths = ProjectFilesUtils.buildFilePaths(project.getDirectories(), project.getBranches(), project.getFileInfos());
-        Map<Long, String> reversePaths = paths.entrySet()
-            .stream()
-            .collect(Collectors.toMap((entry) -> entry.getValue().getId(), Map.Entry::getKey));
+        Map<Long, String> reversePaths = (isVerbose)
+            ? project.getIndex().getFilePaths().entrySet()
+                .stream()
+                .collect(Collectors.toMap((entry) -> entry.getValue().getId(), Map.Entry::getKey))
+            : Collections.emptyMap();
 
-        String encodedFilter;
-        try {
-            encodedFilter = (filter != null) ? URLEncoder.encode(filter, StandardCharsets.UTF_8.toString()) : null;
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
-        }
-
-        List<SourceString> sourceStrings;
+        Iterator<SourceString> sourceStrings;
         if (StringUtils.isEmpty(file)) {
-            sourceStrings = client.listSourceString(null, encodedFilter);
+            sourceStrings = client.streamSourceString(null, filter).iterator();
         } else {
-            if (paths.containsKey(file)) {
-                sourceStrings = client.listSourceString(paths.get(file).getId(), encodedFilter);
+            FileInfo fileInfo = project.getIndex().getFilePaths().get(file);
+            if (fileInfo != null) {
+                sourceStrings = client.streamSourceString(fileInfo.getId(), filter).iterator();
             } else {
                 throw new RuntimeException(String.format(RESOURCE_BUNDLE.getString("error.file_not_exists"), file));
             }
         }
-        if (sourceStrings.isEmpty()) {
+        if (!sourceStrings.hasNext()) {
             out.println(WARNING.withIcon(RESOURCE_BUNDLE.getString("message.source_string_list_not_found")));
         }
-        sourceStrings.forEach(ss -> {
+        sourceStrings.forEachRemaining(ss -> {
             out.println(String.format(RESOURCE_BUNDLE.getString("message.source_string_list_text"), ss.getId(), ss.getText()));
             if (isVerbose) {
                 if (ss.getContext() != null) {
@@ -6,6 +6,7 @@ import com.crowdin.cli.commands.Outputter;
 import com.crowdin.cli.commands.functionality.FilesInterface;
 import com.crowdin.cli.commands.functionality.RequestBuilder;
 import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.utils.Utils;
 import com.crowdin.cli.utils.console.ConsoleSpinner;
 import com.crowdin.client.translationmemory.model.TranslationMemory;
 import com.crowdin.client.translationmemory.model.TranslationMemoryExportRequest;
@@ -95,7 +96,7 @@ class TmDownloadAction implements ClientAction {
 
     private void downloadTm(Client client, Long tmId, String exportId) {
         URL url = client.downloadTm(tmId, exportId);
-        try (InputStream data = url.openStream()) {
+        try (InputStream data = Utils.openStream(url)) {
             files.writeToFile(to.toString(), data);
         } catch (IOException e) {
             throw new RuntimeException(RESOURCE_BUNDLE.getString("error.write_file"), e);
@@ -6,11 +6,11 @@ import com.crowdin.cli.commands.Outputter;
 import com.crowdin.cli.commands.functionality.PropertiesBeanUtils;
 import com.crowdin.cli.commands.functionality.RequestBuilder;
 import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.utils.file.FileChannelInputStream;
 import com.crowdin.client.translationmemory.model.AddTranslationMemoryRequest;
 import com.crowdin.client.translationmemory.model.TranslationMemory;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
@@ -42,7 +42,7 @@ class TmUploadAction implements ClientAction {
         boolean isOrganization = PropertiesBeanUtils.isOrganization(pb.getBaseUrl());
         TranslationMemory targetTm = this.getTm(client, isOrganization);
         Long storageId;
-        try (InputStream fileStream = new FileInputStream(file)) {
+        try (InputStream fileStream = new FileChannelInputStream(file)) {
             storageId = client.uploadStorage(file.getName(), fileStream);
         } catch (Exception e) {
             throw new RuntimeException(RESOURCE_BUNDLE.getString("error.upload_to_storage"), e);
@@ -2,15 +2,18 @@ package com.crowdin.cli.commands.actions;
 
 import com.crowdin.cli.client.Client;
 import com.crowdin.cli.client.CrowdinProjectFull;
+import com.crowdin.cli.client.ProjectIndex;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Outputter;
-import com.crowdin.cli.commands.functionality.ProjectFilesUtils;
+import com.crowdin.cli.commands.functionality.DoubleAsteriskResolver;
 import com.crowdin.cli.commands.functionality.ProjectUtils;
 import com.crowdin.cli.commands.functionality.PropertiesBeanUtils;
+import com.crowdin.cli.commands.functionality.SourcesScan;
 import com.crowdin.cli.commands.functionality.SourcesUtils;
-import com.crowdin.cli.commands.functionality.TranslationsUtils;
+import com.crowdin.cli.commands.functionality.StorageCache;
 import com.crowdin.cli.properties.FileBean;
 import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.properties.helper.DirectoryIndex;
 import com.crowdin.cli.utils.PlaceholderUtil;
 import com.crowdin.cli.utils.Utils;
 import com.crowdin.cli.utils.concurrency.ConcurrencyUtil;
@@ -31,9 +34,7 @@ import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -64,23 +65,29 @@ class UploadSourcesAction implements ClientAction {
 
     @Override
     public void act(Outputter out, PropertiesBean pb, Client client) {
+        DirectoryIndex directoryIndex = new DirectoryIndex();
+        SourcesScan sourcesScan = SourcesScan.start(pb.getBasePath(), pb.getFiles(), directoryIndex);
         CrowdinProjectFull project = ConsoleSpinner.execute(out, "message.spinner.fetching_project_info", "error.collect_project_info",
-            this.noProgress, this.plainView, client::downloadFullProject);
+            this.noProgress, this.plainView, () -> client.downloadFullProject(this.branchName));
 
         PlaceholderUtil placeholderUtil = new PlaceholderUtil(project.getSupportedLanguages(), project.getProjectLanguages(false), pb.getBasePath());
 
         Branch branchId = (branchName != null) ? this.getOrCreateBranch(out, branchName, client, project) : null;
 
-        Map<String, Long> directoryPaths = ProjectFilesUtils.buildDirectoryPaths(project.getDirectories(), project.getBranches())
-                .entrySet().stream().collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey));
-        Map<String, FileInfo> paths = ProjectFilesUtils.buildFilePaths(project.getDirectories(), project.getBranches(), project.getFileInfos());
+        ProjectIndex index = project.getIndex();
+        Map<String, Long> directoryPaths = index.getDirectoryPathsWithBranches()
+                .entrySet().stream().collect(Collectors.toConcurrentMap(Map.Entry::getValue, Map.Entry::getKey));
+        Map<String, FileInfo> paths = index.getFilePaths();
 
         List<String> uploadedSources = new ArrayList<>();
 
+        StorageCache storageCache = new StorageCache(client);
+
         AtomicBoolean errorsPresented = new AtomicBoolean(false);
         List<Runnable> tasks = pb.getFiles().stream()
             .map(file -> (Runnable) () -> {
-                List<String> sources = SourcesUtils.getFiles(pb.getBasePath(), file.getSource(), file.getIgnore(), placeholderUtil)
+                DoubleAsteriskResolver doubleAsteriskResolver = new DoubleAsteriskResolver(file.getSource());
+                List<String> sources = sourcesScan.getFiles(file, placeholderUtil)
                     .map(File::getAbsolutePath)
                     .collect(Collectors.toList());
                 if (sources.isEmpty()) {
@@ -116,15 +123,15 @@ class UploadSourcesAction implements ClientAction {
                         FileInfo projectFile = paths.get(fileFullPath);
                         if (autoUpdate && projectFile != null) {
                             final UpdateFileRequest request = new UpdateFileRequest();
-                            request.setExportOptions(buildExportOptions(sourceFile, file, pb.getBasePath()));
+                            request.setExportOptions(buildExportOptions(sourceFile, file, doubleAsteriskResolver, pb.getBasePath()));
                             request.setImportOptions(buildImportOptions(sourceFile, file));
                             PropertiesBeanUtils.getUpdateOption(file.getUpdateOption()).ifPresent(request::setUpdateOption);
 
                             final Long sourceId = projectFile.getId();
 
                             return (Runnable) () -> {
-                                try (InputStream fileStream = new FileInputStream(sourceFile)) {
-                                    request.setStorageId(client.uploadStorage(fileName, fileStream));
+                                try {
+                                    request.setStorageId(storageCache.uploadStorage(fileName, sourceFile));
                                 } catch (IOException e) {
                                     errorsPresented.set(true);
                                     throw new RuntimeException(
@@ -147,7 +154,7 @@ class UploadSourcesAction implements ClientAction {
                         } else if (projectFile == null) {
                             final AddFileRequest request = new AddFileRequest();
                             request.setName(fileName);
-                            request.setExportOptions(buildExportOptions(sourceFile, file, pb.getBasePath()));
+                            request.setExportOptions(buildExportOptions(sourceFile, file, doubleAsteriskResolver, pb.getBasePath()));
                             request.setImportOptions(buildImportOptions(sourceFile, file));
                             if (file.getType() != null) {
                                 request.setType(file.getType());
@@ -168,8 +175,8 @@ class UploadSourcesAction implements ClientAction {
                                     request.setBranchId(branchId.getId());
                                 }
 
-                                try (InputStream fileStream = new FileInputStream(sourceFile)) {
-                                    request.setStorageId(client.uploadStorage(fileName, fileStream));
+                                try {
+                                    request.setStorageId(storageCache.uploadStorage(fileName, sourceFile));
                                 } catch (IOException e) {
                                     errorsPresented.set(true);
                                     throw new RuntimeException(
@@ -227,10 +234,11 @@ class UploadSourcesAction implements ClientAction {
         }
     }
 
-    private ExportOptions buildExportOptions(java.io.File sourceFile, FileBean fileBean, String basePath) {
+    private ExportOptions buildExportOptions(
+        java.io.File sourceFile, FileBean fileBean, DoubleAsteriskResolver doubleAsteriskResolver, String basePath
+    ) {
         PropertyFileExportOptions exportOptions = new PropertyFileExportOptions();
-        String exportPattern = TranslationsUtils.replaceDoubleAsterisk(
-            fileBean.getSource(),
+        String exportPattern = doubleAsteriskResolver.replaceDoubleAsterisk(
             fileBean.getTranslation(),
             StringUtils.removeStart(sourceFile.getAbsolutePath(), basePath)
         );
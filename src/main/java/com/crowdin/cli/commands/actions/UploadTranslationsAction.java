@@ -5,13 +5,16 @@ import com.crowdin.cli.client.CrowdinProjectFull;
 import com.crowdin.cli.client.LanguageMapping;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Outputter;
-import com.crowdin.cli.commands.functionality.ProjectFilesUtils;
+import com.crowdin.cli.commands.functionality.DoubleAsteriskResolver;
 import com.crowdin.cli.commands.functionality.PropertiesBeanUtils;
 import com.crowdin.cli.commands.functionality.RequestBuilder;
+import com.crowdin.cli.commands.functionality.SourcesScan;
 import com.crowdin.cli.commands.functionality.SourcesUtils;
-import com.crowdin.cli.commands.functionality.TranslationsUtils;
+import com.crowdin.cli.commands.functionality.StorageCache;
 import com.crowdin.cli.properties.FileBean;
 import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.properties.helper.DirectoryIndex;
+import com.crowdin.cli.utils.PlaceholderTemplate;
 import com.crowdin.cli.utils.PlaceholderUtil;
 import com.crowdin.cli.utils.Utils;
 import com.crowdin.cli.utils.concurrency.ConcurrencyUtil;
@@ -23,8 +26,6 @@ import com.crowdin.client.translations.model.UploadTranslationsRequest;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
-import java.io.FileInputStream;
-import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -63,8 +64,9 @@ class UploadTranslationsAction implements ClientAction {
 
     @Override
     public void act(Outputter out, PropertiesBean pb, Client client) {
+        SourcesScan sourcesScan = SourcesScan.start(pb.getBasePath(), pb.getFiles(), new DirectoryIndex());
         CrowdinProjectFull project = ConsoleSpinner.execute(out, "message.spinner.fetching_project_info", "error.collect_project_info",
-            this.noProgress, this.plainView, client::downloadFullProject);
+            this.noProgress, this.plainView, () -> client.downloadFullProject(this.branchName));
 
         if (!project.isManagerAccess()) {
             if (!plainView) {
@@ -79,7 +81,7 @@ class UploadTranslationsAction implements ClientAction {
 
         LanguageMapping serverLanguageMapping = project.getLanguageMapping();
 
-        Map<String, FileInfo> paths = ProjectFilesUtils.buildFilePaths(project.getDirectories(), project.getBranches(), project.getFiles());
+        Map<String, FileInfo> paths = project.getIndex().getFilePaths();
 
         List<Language> languages = (languageId != null)
             ? project.findLanguageById(languageId, true)
@@ -87,9 +89,11 @@ class UploadTranslationsAction implements ClientAction {
                 .orElseThrow(() -> new RuntimeException(String.format(RESOURCE_BUNDLE.getString("error.not_found_language"), languageId)))
             : project.getProjectLanguages(false);
 
+        StorageCache storageCache = new StorageCache(client);
+
         for (FileBean file : pb.getFiles()) {
-            List<String> fileSourcesWithoutIgnores = SourcesUtils
-                .getFiles(pb.getBasePath(), file.getSource(), file.getIgnore(), placeholderUtil)
+            List<String> fileSourcesWithoutIgnores = sourcesScan
+                .getFiles(file, placeholderUtil)
                 .map(java.io.File::getAbsolutePath)
                 .collect(Collectors.toList());
 
@@ -104,6 +108,10 @@ class UploadTranslationsAction implements ClientAction {
                 continue;
             }
 
+            LanguageMapping localLanguageMapping = LanguageMapping.fromConfigFileLanguageMapping(file.getLanguagesMapping());
+            LanguageMapping languageMapping = LanguageMapping.populate(localLanguageMapping, serverLanguageMapping);
+            DoubleAsteriskResolver doubleAsteriskResolver = new DoubleAsteriskResolver(file.getSource());
+
             Map<java.io.File, Pair<List<Language>, UploadTranslationsRequest>> preparedRequests = new HashMap<>();
             String branchPath = (StringUtils.isNotEmpty(this.branchName) ? branchName + Utils.PATH_SEPARATOR : "");
             AtomicBoolean containsErrors = new AtomicBoolean(false);
@@ -125,7 +133,7 @@ class UploadTranslationsAction implements ClientAction {
 
 //                build filePath to each source and project language
                 String fileSource = StringUtils.removeStart(source, pb.getBasePath());
-                String translation = TranslationsUtils.replaceDoubleAsterisk(file.getSource(), file.getTranslation(), fileSource);
+                String translation = doubleAsteriskResolver.replaceDoubleAsterisk(file.getTranslation(), fileSource);
                 translation = placeholderUtil.replaceFileDependentPlaceholders(translation, new java.io.File(source));
                 if (file.getScheme() != null && !PlaceholderUtil.containsLangPlaceholders(translation)) {
                     java.io.File transFile = new java.io.File(pb.getBasePath() + Utils.PATH_SEPARATOR + translation);
@@ -141,13 +149,9 @@ class UploadTranslationsAction implements ClientAction {
                     UploadTranslationsRequest request = RequestBuilder.uploadTranslations(fileId, importEqSuggestions, autoApproveImported);
                     preparedRequests.put(transFile, Pair.of(languages, request));
                 } else {
+                    PlaceholderTemplate translationTemplate = PlaceholderUtil.parseLanguagePlaceholders(translation);
                     for (Language language : languages) {
-                        LanguageMapping localLanguageMapping =
-                            LanguageMapping.fromConfigFileLanguageMapping(file.getLanguagesMapping());
-                        LanguageMapping languageMapping =
-                            LanguageMapping.populate(localLanguageMapping, serverLanguageMapping);
-
-                        String transFileName = placeholderUtil.replaceLanguageDependentPlaceholders(translation, languageMapping, language);
+                        String transFileName = placeholderUtil.replaceLanguageDependentPlaceholders(translationTemplate, languageMapping, language);
                         transFileName = PropertiesBeanUtils.useTranslationReplace(transFileName, file.getTranslationReplace());
                         java.io.File transFile = new java.io.File(pb.getBasePath() + Utils.PATH_SEPARATOR + transFileName);
                         if (!transFile.exists()) {
@@ -171,8 +175,8 @@ class UploadTranslationsAction implements ClientAction {
                     java.io.File translationFile = entry.getKey();
                     List<Language> langs = entry.getValue().getLeft();
                     UploadTranslationsRequest request = entry.getValue().getRight();
-                    try (InputStream fileStream = new FileInputStream(translationFile)) {
-                        Long storageId = client.uploadStorage(translationFile.getName(), fileStream);
+                    try {
+                        Long storageId = storageCache.uploadStorage(translationFile.getName(), translationFile);
                         request.setStorageId(storageId);
                     } catch (Exception e) {
                         containsErrors.set(true);
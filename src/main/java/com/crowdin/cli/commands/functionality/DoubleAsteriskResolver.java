@@ -0,0 +1,196 @@
+package com.crowdin.cli.commands.functionality;
+
+import com.crowdin.cli.utils.Utils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
+
+/**
+ * Replaces the double asterisk of translation patterns for one source pattern.
+ * The source pattern is split and prepared once, and the part of a source file that the double asterisk
+ * stands for is computed once per file. Path fragments are searched for without regular expressions when possible.
+ */
+public class DoubleAsteriskResolver {
+
+    private static final String REGEX_SPECIAL_CHARS = "\\.^$|?*+()[]{}";
+
+    private final String sourcePattern;
+    private FirstMatch[] sourceNodes;
+    private String[] lastSourceNodePartsRaw;
+    private FirstMatch[] lastSourceNodeParts;
+
+    private final ConcurrentMap<String, String> segments = new ConcurrentHashMap<>();
+
+    public DoubleAsteriskResolver(String sourcePattern) {
+        this.sourcePattern = sourcePattern;
+        if (sourcePattern == null || !sourcePattern.contains("**")) {
+            return;
+        }
+        String[] nodes = StringUtils.removeStart(sourcePattern, Utils.PATH_SEPARATOR).split("\\*\\*");
+        this.sourceNodes = new FirstMatch[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            this.sourceNodes[i] = new FirstMatch(nodes[i], Utils.regexPath(nodes[i]));
+        }
+        if (nodes.length > 0 && nodes[nodes.length - 1].contains(Utils.PATH_SEPARATOR)) {
+            this.lastSourceNodePartsRaw = nodes[nodes.length - 1].split(Utils.PATH_SEPARATOR_REGEX);
+            this.lastSourceNodeParts = new FirstMatch[this.lastSourceNodePartsRaw.length];
+        }
+    }
+
+    /**
+     * @param translationPattern translation pattern
+     * @param sourceFile source file path, relative to the base path
+     * @return translation pattern with the double asterisk replaced by the matching part of the source file path
+     */
+    public String replaceDoubleAsterisk(String translationPattern, String sourceFile) {
+        if (StringUtils.isAnyEmpty(translationPattern, sourceFile)) {
+            throw new RuntimeException("No sources and/or translations");
+        }
+        if (!translationPattern.contains("**")) {
+            return translationPattern;
+        }
+        if (!sourcePattern.contains("**")) {
+            throw new RuntimeException(RESOURCE_BUNDLE.getString("error.config.double_asterisk"));
+        }
+        String segment = segments.get(sourceFile);
+        if (segment == null) {
+            segment = this.resolveSegment(sourceFile);
+            segments.put(sourceFile, segment);
+        }
+        return collapseSeparators(translationPattern.replace("**", segment));
+    }
+
+    private String resolveSegment(String sourceFile) {
+        for (int i = 0; i < sourceNodes.length; i++) {
+            if (sourceFile.contains(sourceNodes[i].text)) {
+                sourceFile = sourceNodes[i].replaceFirst(sourceFile, "");
+            } else if (sourceNodes.length - 1 == i) {
+                if (lastSourceNodePartsRaw != null) {
+                    for (int j = 0; j < lastSourceNodePartsRaw.length; j++) {
+                        FirstMatch part = this.getLastSourceNodePart(j);
+                        if (sourceFile.contains(part.text)) {
+                            sourceFile = part.replaceFirst(sourceFile, Utils.PATH_SEPARATOR);
+                        } else if (StringUtils.indexOfAny(part.text, new String[]{"*", "?", "[", "]", "."}) >= 0) {
+                            if (sourceFile.lastIndexOf(Utils.PATH_SEPARATOR) > 0) {
+                                sourceFile = sourceFile.substring(0, sourceFile.lastIndexOf(Utils.PATH_SEPARATOR));
+                            } else {
+                                sourceFile = "";
+                            }
+                        }
+                    }
+                } else if (sourceFile.contains(".")) {
+                    sourceFile = "";
+                }
+            }
+        }
+        return sourceFile;
+    }
+
+    /**
+     * Parts of the last source node are prepared only when some source file needs them, in the same order as before
+     */
+    private FirstMatch getLastSourceNodePart(int index) {
+        FirstMatch part = lastSourceNodeParts[index];
+        if (part == null) {
+            String s = Utils.PATH_SEPARATOR + lastSourceNodePartsRaw[index] + Utils.PATH_SEPARATOR;
+            s = s.replaceAll(Utils.PATH_SEPARATOR + "+", Utils.PATH_SEPARATOR);
+            part = new FirstMatch(s, s);
+            lastSourceNodeParts[index] = part;
+        }
+        return part;
+    }
+
+    private static String collapseSeparators(String path) {
+        char separator = Utils.PATH_SEPARATOR.charAt(0);
+        if (!path.contains(Utils.PATH_SEPARATOR + Utils.PATH_SEPARATOR)) {
+            return path;
+        }
+        StringBuilder result = new StringBuilder(path.length());
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c != separator || result.length() == 0 || result.charAt(result.length() - 1) != separator) {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * First match of a path fragment that has always been used as a regular expression.
+     * Fragments without regex syntax (or with dots only) are searched for directly; the others are compiled once.
+     * A fragment is replaced only in paths that contain it literally, so the regex is needed only for source patterns
+     * with glob syntax after the double asterisk, like {@code /en/**}{@code /[ab]/*.xml}, and files whose path holds
+     * that text, like {@code en/a/[ab]/*.xml}: the regex may match elsewhere in the path, or nowhere at all.
+     */
+    private static final class FirstMatch {
+
+        private final String text;
+        private final String regex;
+        private final boolean literal;
+        private final boolean dotsOnly;
+        private volatile Pattern pattern;
+
+        FirstMatch(String text, String regex) {
+            this.text = text;
+            this.regex = regex;
+            boolean plain = !containsSurrogates(regex);
+            this.literal = plain && !StringUtils.containsAny(regex, REGEX_SPECIAL_CHARS);
+            this.dotsOnly = plain && !this.literal && !StringUtils.containsAny(regex.replace(".", ""), REGEX_SPECIAL_CHARS);
+        }
+
+        String replaceFirst(String input, String replacement) {
+            boolean simpleReplacement = replacement.indexOf('\\') == -1 && replacement.indexOf('$') == -1;
+            if (simpleReplacement && literal) {
+                return replaceAt(input, input.indexOf(regex), replacement);
+            } else if (simpleReplacement && dotsOnly && !containsSurrogates(input)) {
+                return replaceAt(input, this.indexOfWithDots(input), replacement);
+            }
+            if (pattern == null) {
+                pattern = Pattern.compile(regex);
+            }
+            return pattern.matcher(input).replaceFirst(replacement);
+        }
+
+        private String replaceAt(String input, int index, String replacement) {
+            if (index == -1) {
+                return input;
+            }
+            return input.substring(0, index) + replacement + input.substring(index + regex.length());
+        }
+
+        /**
+         * Same as the first match of the regex, where a dot matches any character except line terminators
+         */
+        private int indexOfWithDots(String input) {
+            for (int i = 0; i + regex.length() <= input.length(); i++) {
+                boolean matches = true;
+                for (int j = 0; j < regex.length() && matches; j++) {
+                    char expected = regex.charAt(j);
+                    char actual = input.charAt(i + j);
+                    matches = (expected == '.') ? !isLineTerminator(actual) : expected == actual;
+                }
+                if (matches) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static boolean isLineTerminator(char c) {
+            return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+
+        private static boolean containsSurrogates(String input) {
+            for (int i = 0; i < input.length(); i++) {
+                if (Character.isSurrogate(input.charAt(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -12,16 +12,18 @@ public class DryrunSources extends Dryrun {
 
     private PropertiesBean pb;
     private PlaceholderUtil placeholderUtil;
+    private SourcesScan sourcesScan;
 
-    public DryrunSources(PropertiesBean pb, PlaceholderUtil placeholderUtil) {
+    public DryrunSources(PropertiesBean pb, PlaceholderUtil placeholderUtil, SourcesScan sourcesScan) {
         this.pb = pb;
         this.placeholderUtil = placeholderUtil;
+        this.sourcesScan = sourcesScan;
     }
 
     @Override
     protected List<String> getFiles() {
         List<String> files = pb.getFiles().stream()
-            .flatMap(file -> SourcesUtils.getFiles(pb.getBasePath(), file.getSource(), file.getIgnore(), placeholderUtil)
+            .flatMap(file -> sourcesScan.getFiles(file, placeholderUtil)
             .map(File::getAbsolutePath))
             .collect(Collectors.toList());
 
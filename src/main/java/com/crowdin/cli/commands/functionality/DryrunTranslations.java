@@ -1,12 +1,15 @@
 package com.crowdin.cli.commands.functionality;
 
 import com.crowdin.cli.client.LanguageMapping;
+import com.crowdin.cli.properties.FileBean;
 import com.crowdin.cli.properties.PropertiesBean;
 import com.crowdin.cli.utils.PlaceholderUtil;
 import com.crowdin.cli.utils.Utils;
 import com.crowdin.client.languages.model.Language;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -19,10 +22,11 @@ public class DryrunTranslations extends Dryrun {
     private boolean filesMustExist;
     private LanguageMapping projectLanguageMapping;
     private Optional<Language> language;
+    private SourcesScan sourcesScan;
 
     public DryrunTranslations(
         PropertiesBean pb, LanguageMapping projectLanguageMapping,
-        PlaceholderUtil placeholderUtil, Optional<Language> language, boolean filesMustExist
+        PlaceholderUtil placeholderUtil, Optional<Language> language, boolean filesMustExist, SourcesScan sourcesScan
     ) {
         super("message.translation_file");
         this.pb = pb;
@@ -30,28 +34,35 @@ public class DryrunTranslations extends Dryrun {
         this.filesMustExist = filesMustExist;
         this.projectLanguageMapping = projectLanguageMapping;
         this.language = language;
+        this.sourcesScan = sourcesScan;
     }
 
+    /**
+     * Sources of a file group are rendered in parallel; rendered paths are kept in the order of file groups,
+     * sources and languages, so duplicates are dropped the same way on every run
+     */
     @Override
     protected List<String> getFiles() {
-        return pb.getFiles()
-            .stream()
-            .flatMap(file -> SourcesUtils.getFiles(pb.getBasePath(), file.getSource(), file.getIgnore(), placeholderUtil)
+        List<String> translations = new ArrayList<>();
+        for (FileBean file : pb.getFiles()) {
+            LanguageMapping localLanguageMapping = LanguageMapping.fromConfigFileLanguageMapping(file.getLanguagesMapping());
+            LanguageMapping languageMapping = LanguageMapping.populate(localLanguageMapping, projectLanguageMapping);
+            DoubleAsteriskResolver doubleAsteriskResolver = new DoubleAsteriskResolver(file.getSource());
+            List<java.io.File> sources = sourcesScan.getFiles(file, placeholderUtil).collect(Collectors.toList());
+            translations.addAll(sources.parallelStream()
                 .map(source -> {
                     String fileSource = StringUtils.removeStart(source.getAbsolutePath(), pb.getBasePath());
-                    String translation = TranslationsUtils.replaceDoubleAsterisk(file.getSource(), file.getTranslation(), fileSource);
+                    String translation = doubleAsteriskResolver.replaceDoubleAsterisk(file.getTranslation(), fileSource);
                     return placeholderUtil.replaceFileDependentPlaceholders(translation, source);
                 })
-                .flatMap(translation -> {
-                    LanguageMapping localLanguageMapping = LanguageMapping.fromConfigFileLanguageMapping(file.getLanguagesMapping());
-                    LanguageMapping languageMapping = LanguageMapping.populate(localLanguageMapping, projectLanguageMapping);
-                    return language
-                        .map(l -> Stream.of(placeholderUtil.replaceLanguageDependentPlaceholders(translation, languageMapping, l)))
-                        .orElseGet(() -> placeholderUtil.replaceLanguageDependentPlaceholders(translation, languageMapping).stream());
-                })
+                .flatMap(translation -> language
+                    .map(l -> Stream.of(placeholderUtil.replaceLanguageDependentPlaceholders(translation, languageMapping, l)))
+                    .orElseGet(() -> placeholderUtil.replaceLanguageDependentPlaceholders(translation, languageMapping).stream()))
                 .map(translation -> PropertiesBeanUtils.useTranslationReplace(translation, file.getTranslationReplace()))
-            )
-            .distinct()
+                .collect(Collectors.toList()));
+        }
+        return new ArrayList<>(new LinkedHashSet<>(translations))
+            .parallelStream()
             .filter(file -> (!filesMustExist) || new java.io.File(pb.getBasePath() + StringUtils.removeStart(file, Utils.PATH_SEPARATOR)).exists())
             .map(source -> StringUtils.removeStart(source, pb.getBasePath()))
             .collect(Collectors.toList());
@@ -0,0 +1,33 @@
+package com.crowdin.cli.commands.functionality;
+
+import com.crowdin.cli.properties.PropertiesBean;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static com.crowdin.cli.BaseCli.CACHE_DIR_ENV;
+
+/**
+ * Locates files that keep project data between runs. Each project of each organization gets its own directory
+ * under {@code ~/.crowdin/cache}, or under the directory set with the {@code CROWDIN_CACHE_DIR} variable.
+ * Cached data may be stale at any time, so it should only be used as a hint that is verified against the server.
+ */
+public class ProjectCache {
+
+    private ProjectCache() {
+    }
+
+    public static File getDefaultDirectory() {
+        String dir = System.getenv(CACHE_DIR_ENV);
+        return (dir != null && !dir.trim().isEmpty())
+            ? new File(dir)
+            : new File(new File(System.getProperty("user.home"), ".crowdin"), "cache");
+    }
+
+    public static File getFile(File cacheDir, PropertiesBean pb, String name) {
+        String baseUrl = (pb.getBaseUrl() != null) ? pb.getBaseUrl() : "";
+        String projectDir = pb.getProjectId() + "-" + UUID.nameUUIDFromBytes(baseUrl.getBytes(StandardCharsets.UTF_8));
+        return new File(new File(cacheDir, projectDir), name);
+    }
+}
@@ -3,8 +3,6 @@ package com.crowdin.cli.commands.functionality;
 import com.crowdin.cli.client.LanguageMapping;
 import com.crowdin.cli.utils.PlaceholderUtil;
 import com.crowdin.cli.utils.Utils;
-import com.crowdin.client.sourcefiles.model.Branch;
-import com.crowdin.client.sourcefiles.model.Directory;
 import com.crowdin.client.sourcefiles.model.ExportOptions;
 import com.crowdin.client.sourcefiles.model.File;
 import com.crowdin.client.sourcefiles.model.FileInfo;
@@ -20,29 +18,6 @@ import java.util.stream.Stream;
 
 public class ProjectFilesUtils {
 
-    public static Map<String, FileInfo> buildFilePaths(
-        Map<Long, Directory> directories, Map<Long, Branch> branchNames, List<? extends FileInfo> files
-    ) {
-        Map<Long, String> directoryPaths = buildDirectoryPaths(directories, branchNames);
-        Map<String, FileInfo> filePathsToId = new HashMap<>();
-        files.forEach(fe -> filePathsToId.put(getParentId(fe).map(directoryPaths::get).orElse("") + fe.getName(), fe));
-        return filePathsToId;
-    }
-
-    public static Map<Long, String> buildDirectoryPaths(Map<Long, Directory> directories, Map<Long, Branch> branches) {
-        Map<Long, String> directoryPaths = new HashMap<>();
-        directories.forEach((k, dir) ->
-            directoryPaths.put(k, buildBranchPath(dir.getBranchId(), branches) + buildDirectoryPath(dir.getId(), directories)));
-        branches.keySet().forEach(brId -> directoryPaths.put(brId, buildBranchPath(brId, branches)));
-        return directoryPaths;
-    }
-
-    public static Map<Long, String> buildDirectoryPaths(Map<Long, Directory> directories) {
-        Map<Long, String> directoryPaths = new HashMap<>();
-        directories.forEach((k, dir) -> directoryPaths.put(k, buildDirectoryPath(dir.getId(), directories)));
-        return directoryPaths;
-    }
-
     public static Map<String, List<String>> buildAllProjectTranslations(
             List<File> projectFiles,
             Map<Long, String> directoryPaths,
@@ -71,22 +46,6 @@ public class ProjectFilesUtils {
         return allProjectTranslations;
     }
 
-    private static String buildDirectoryPath(Long directoryId, Map<Long, Directory> directories) {
-        StringBuilder sb = new StringBuilder();
-        if (directoryId != null) {
-            Directory dir = directories.get(directoryId);
-            while (dir != null) {
-                sb.insert(0, dir.getName() + Utils.PATH_SEPARATOR);
-                dir = directories.get(dir.getDirectoryId());
-            }
-        }
-        return sb.toString();
-    }
-
-    public static String buildBranchPath(Long branchId, Map<Long, Branch> branchNames) {
-        return ((branchId != null) ? branchNames.get(branchId).getName() + Utils.PATH_SEPARATOR : "");
-    }
-
     private static Optional<Long> getParentId(FileInfo fe) {
         return (fe.getDirectoryId() != null) ? Optional.of(fe.getDirectoryId()) : Optional.ofNullable(fe.getBranchId());
     }
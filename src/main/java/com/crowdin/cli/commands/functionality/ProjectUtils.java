@@ -14,9 +14,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Map;
 import java.util.ResourceBundle;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 public class ProjectUtils {
 
@@ -56,34 +53,30 @@ public class ProjectUtils {
         return directoryId;
     }
 
-    private static final Object obj = new Object();
-    private static final Map<String, Lock> pathLocks = new ConcurrentHashMap<>();
-
+    /**
+     * Identical concurrent directory requests are coalesced by the client, so there is no need to lock here.
+     * directoryIdMap should be thread-safe if this method is used from several threads.
+     */
     private static Long createDirectory(
         Outputter out, Map<String, Long> directoryIdMap, Client client, AddDirectoryRequest request, String key, boolean plainView
     ) {
-        Lock lock;
-        synchronized (obj) {
-            if (!pathLocks.containsKey(key)) {
-                pathLocks.put(key, new ReentrantLock());
-            }
-            lock = pathLocks.get(key);
+        Long existingId = directoryIdMap.get(key);
+        if (existingId != null) {
+            return existingId;
         }
-        Long directoryId;
         try {
-            lock.lock();
-            if (directoryIdMap.containsKey(key)) {
-                return directoryIdMap.get(key);
-            }
             Directory directory = client.addDirectory(request);
-            directoryId = directory.getId();
-            directoryIdMap.put(key, directoryId);
+            existingId = directoryIdMap.putIfAbsent(key, directory.getId());
+            if (existingId != null) {
+                return existingId;
+            }
             if (!plainView) {
                 out.println(ExecutionStatus.OK.withIcon(String.format(
                     RESOURCE_BUNDLE.getString("message.directory"), StringUtils.removePattern(key, "[\\\\/]$"))));
             } else {
                 out.println(key);
             }
+            return directory.getId();
         } catch (ExistsResponseException e) {
             if (!plainView) {
                 out.println(ExecutionStatus.SKIPPED.withIcon(String.format(
@@ -99,10 +92,7 @@ public class ProjectUtils {
             return createDirectory(out, directoryIdMap, client, request, key, plainView);
         } catch (ResponseException e) {
             throw new RuntimeException("Unhandled exception", e);
-        } finally {
-            lock.unlock();
         }
-        return directoryId;
     }
 
     private static void sleep(int millis) {
@@ -0,0 +1,100 @@
+package com.crowdin.cli.commands.functionality;
+
+import com.crowdin.cli.client.Client;
+import com.crowdin.client.sourcestrings.model.SourceString;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Identifier to id index of source strings, kept in a file between runs. Cached ids are checked by fetching
+ * the string, so a string that was deleted or got another identifier is looked up on the server again.
+ */
+public class SourceStringIdentifiers {
+
+    public static final String FILE_NAME = "string-identifiers.properties";
+
+    private final File file;
+    private final Properties ids = new Properties();
+    private boolean changed = false;
+
+    private SourceStringIdentifiers(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the index. A missing or broken file is treated as an empty index
+     */
+    public static SourceStringIdentifiers load(File file) {
+        SourceStringIdentifiers identifiers = new SourceStringIdentifiers(file);
+        if (file.isFile()) {
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                identifiers.ids.load(in);
+            } catch (IOException | IllegalArgumentException e) {
+                identifiers.ids.clear();
+            }
+        }
+        return identifiers;
+    }
+
+    public Optional<SourceString> find(Client client, String identifier) {
+        Long cachedId = this.getCachedId(identifier);
+        if (cachedId != null) {
+            Optional<SourceString> cached = client.getSourceString(cachedId)
+                .filter(sourceString -> identifier.equals(sourceString.getIdentifier()));
+            if (cached.isPresent()) {
+                return cached;
+            }
+        }
+        Optional<SourceString> found = client.listSourceString(null, identifier)
+            .stream()
+            .filter(sourceString -> identifier.equals(sourceString.getIdentifier()))
+            .findAny();
+        if (found.isPresent()) {
+            this.put(identifier, found.get().getId());
+        } else if (cachedId != null) {
+            ids.remove(identifier);
+            changed = true;
+        }
+        return found;
+    }
+
+    public void put(String identifier, Long id) {
+        if (identifier != null && id != null && !id.toString().equals(ids.getProperty(identifier))) {
+            ids.setProperty(identifier, id.toString());
+            changed = true;
+        }
+    }
+
+    /**
+     * Writes the index if it was changed. The index is only a cache, so failures to write it are ignored
+     */
+    public void save() {
+        if (!changed) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+            try (OutputStream out = Files.newOutputStream(file.toPath())) {
+                ids.store(out, null);
+            }
+            changed = false;
+        } catch (IOException e) {
+            // ignored
+        }
+    }
+
+    private Long getCachedId(String identifier) {
+        String value = ids.getProperty(identifier);
+        try {
+            return (value != null) ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
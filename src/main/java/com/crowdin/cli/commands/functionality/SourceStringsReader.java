@@ -0,0 +1,254 @@
+package com.crowdin.cli.commands.functionality;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
+
+/**
+ * Reads source strings to import, one entry at a time. CSV files start with a header row that names the columns
+ * (any of {@code text}, {@code identifier}, {@code context}, {@code maxLength} and {@code file}, in any order);
+ * other files are read as JSON lines, one object with the same keys per line.
+ * Entries that can't be read are returned with an error instead of failing the whole file.
+ */
+public class SourceStringsReader implements Closeable {
+
+    public static final String TEXT = "text";
+    public static final String IDENTIFIER = "identifier";
+    public static final String CONTEXT = "context";
+    public static final String MAX_LENGTH = "maxLength";
+    public static final String FILE = "file";
+
+    private final BufferedReader reader;
+    private final boolean csv;
+    private Map<String, Integer> columns;
+    private int lineNumber = 0;
+
+    public SourceStringsReader(Reader reader, boolean csv) {
+        this.reader = new BufferedReader(reader);
+        this.csv = csv;
+    }
+
+    public static SourceStringsReader open(File file) throws IOException {
+        return new SourceStringsReader(
+            Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8), isCsv(file));
+    }
+
+    public static boolean isCsv(File file) {
+        return StringUtils.equalsIgnoreCase(FilenameUtils.getExtension(file.getName()), "csv");
+    }
+
+    /**
+     * @return next entry or null at the end of the file. Blank lines are skipped
+     */
+    public Entry next() throws IOException {
+        return (csv) ? this.nextCsv() : this.nextJson();
+    }
+
+    private Entry nextJson() throws IOException {
+        String line;
+        do {
+            line = this.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (StringUtils.isBlank(line));
+        try {
+            JSONObject json = new JSONObject(line);
+            Map<String, String> values = new HashMap<>();
+            for (String key : new String[] {TEXT, IDENTIFIER, CONTEXT, MAX_LENGTH, FILE}) {
+                if (json.has(key) && !json.isNull(key)) {
+                    values.put(key, json.get(key).toString());
+                }
+            }
+            return Entry.of(lineNumber, values);
+        } catch (JSONException e) {
+            return Entry.withError(lineNumber, String.format(RESOURCE_BUNDLE.getString("error.string_import.wrong_json"), e.getMessage()));
+        }
+    }
+
+    private Entry nextCsv() throws IOException {
+        if (columns == null) {
+            List<String> header = this.readCsvRecord();
+            if (header == null) {
+                return null;
+            }
+            columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(StringUtils.removeStart(header.get(i), "\uFEFF").trim(), i);
+            }
+            if (!columns.containsKey(TEXT)) {
+                throw new RuntimeException(RESOURCE_BUNDLE.getString("error.string_import.no_text_column"));
+            }
+        }
+        List<String> record;
+        int row;
+        do {
+            row = lineNumber + 1;
+            record = this.readCsvRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && StringUtils.isBlank(record.get(0)));
+        Map<String, String> values = new HashMap<>();
+        for (Map.Entry<String, Integer> column : columns.entrySet()) {
+            if (column.getValue() < record.size()) {
+                values.put(column.getKey(), record.get(column.getValue()));
+            }
+        }
+        return Entry.of(row, values);
+    }
+
+    /**
+     * Quoted fields may contain separators, doubled quotes and line breaks
+     */
+    private List<String> readCsvRecord() throws IOException {
+        String line = this.readLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                String nextLine = (quoted) ? this.readLine() : null;
+                if (nextLine == null) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                field.append('\n');
+                line = nextLine;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    public static final class Entry {
+
+        private final int row;
+        private final String text;
+        private final String identifier;
+        private final String context;
+        private final Integer maxLength;
+        private final String file;
+        private final String error;
+
+        private Entry(int row, String text, String identifier, String context, Integer maxLength, String file, String error) {
+            this.row = row;
+            this.text = text;
+            this.identifier = identifier;
+            this.context = context;
+            this.maxLength = maxLength;
+            this.file = file;
+            this.error = error;
+        }
+
+        static Entry withError(int row, String error) {
+            return new Entry(row, null, null, null, null, null, error);
+        }
+
+        static Entry of(int row, Map<String, String> values) {
+            String text = StringUtils.defaultIfEmpty(values.get(TEXT), null);
+            if (text == null) {
+                return withError(row, RESOURCE_BUNDLE.getString("error.string_import.no_text"));
+            }
+            String maxLengthValue = StringUtils.trimToNull(values.get(MAX_LENGTH));
+            Integer maxLength = null;
+            if (maxLengthValue != null) {
+                try {
+                    maxLength = Integer.parseInt(maxLengthValue);
+                } catch (NumberFormatException e) {
+                    maxLength = -1;
+                }
+                if (maxLength < 0) {
+                    return withError(row, String.format(RESOURCE_BUNDLE.getString("error.string_import.wrong_max_length"), maxLengthValue));
+                }
+            }
+            return new Entry(row, text, StringUtils.defaultIfEmpty(values.get(IDENTIFIER), null),
+                StringUtils.defaultIfEmpty(values.get(CONTEXT), null), maxLength,
+                StringUtils.trimToNull(values.get(FILE)), null);
+        }
+
+        /**
+         * @return number of the line the entry starts at
+         */
+        public int getRow() {
+            return row;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public String getIdentifier() {
+            return identifier;
+        }
+
+        public String getContext() {
+            return context;
+        }
+
+        public Integer getMaxLength() {
+            return maxLength;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        /**
+         * @return why the entry can't be imported, null if it can
+         */
+        public String getError() {
+            return error;
+        }
+    }
+}
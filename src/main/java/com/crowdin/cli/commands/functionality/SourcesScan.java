@@ -0,0 +1,78 @@
+package com.crowdin.cli.commands.functionality;
+
+import com.crowdin.cli.properties.FileBean;
+import com.crowdin.cli.properties.helper.DirectoryIndex;
+import com.crowdin.cli.utils.PlaceholderUtil;
+
+import java.io.File;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Walks the file system for sources of all file groups of a command in the background, so the walk overlaps
+ * with fetching the project. Ignore patterns with placeholders need project languages, so they are applied
+ * only when the sources are taken, see {@link #getFiles(FileBean, PlaceholderUtil)}.
+ */
+public class SourcesScan {
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "crowdin-sources-scan");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String basePath;
+    private final DirectoryIndex directoryIndex;
+    private final Map<FileBean, CompletableFuture<List<File>>> scans = new IdentityHashMap<>();
+
+    private SourcesScan(String basePath, DirectoryIndex directoryIndex) {
+        this.basePath = basePath;
+        this.directoryIndex = directoryIndex;
+    }
+
+    /**
+     * Starts walking the file system for the given file groups, one after another
+     * @param directoryIndex index to read the file system through. Should be used for the rest of the command too
+     */
+    public static SourcesScan start(String basePath, List<FileBean> files, DirectoryIndex directoryIndex) {
+        SourcesScan scan = new SourcesScan(basePath, directoryIndex);
+        if (files != null) {
+            for (FileBean file : files) {
+                scan.scans.put(file, CompletableFuture.supplyAsync(
+                    () -> SourcesUtils.scanFiles(basePath, file.getSource(), file.getIgnore(), directoryIndex), executor));
+            }
+        }
+        return scan;
+    }
+
+    /**
+     * Waits for the walk of the file group and filters out the ignored files.
+     * Same as {@link SourcesUtils#getFiles(String, String, List, PlaceholderUtil, DirectoryIndex)}
+     */
+    public Stream<File> getFiles(FileBean file, PlaceholderUtil placeholderUtil) {
+        CompletableFuture<List<File>> scan = scans.get(file);
+        List<File> scannedFiles = (scan != null)
+            ? join(scan)
+            : SourcesUtils.scanFiles(basePath, file.getSource(), file.getIgnore(), directoryIndex);
+        return SourcesUtils.filterOutIgnored(basePath, scannedFiles, file.getIgnore(), placeholderUtil, directoryIndex);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
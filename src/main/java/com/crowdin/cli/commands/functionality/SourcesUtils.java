@@ -1,5 +1,6 @@
 package com.crowdin.cli.commands.functionality;
 
+import com.crowdin.cli.properties.helper.DirectoryIndex;
 import com.crowdin.cli.properties.helper.FileHelper;
 import com.crowdin.cli.utils.PlaceholderUtil;
 import com.crowdin.cli.utils.Utils;
@@ -7,21 +8,98 @@ import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class SourcesUtils {
 
     public static Stream<File> getFiles(String basePath, String sourcePattern, List<String> ignorePattern, PlaceholderUtil placeholderUtil) {
-        if (basePath == null || sourcePattern == null || placeholderUtil == null) {
+        return getFiles(basePath, sourcePattern, ignorePattern, placeholderUtil, new DirectoryIndex());
+    }
+
+    /**
+     * Same as {@link #getFiles(String, String, List, PlaceholderUtil)}, but reads the file system through the given index.
+     * Use one index for all file patterns of a command, so the same directories aren't walked again for every pattern.
+     */
+    public static Stream<File> getFiles(
+        String basePath, String sourcePattern, List<String> ignorePattern, PlaceholderUtil placeholderUtil, DirectoryIndex directoryIndex
+    ) {
+        if (basePath == null || sourcePattern == null || placeholderUtil == null || directoryIndex == null) {
             throw new NullPointerException("null args in SourceUtils.getFiles");
         }
-        FileHelper fileHelper = new FileHelper(basePath);
-        List<File> sources = fileHelper.getFiles(sourcePattern);
+        FileHelper fileHelper = new FileHelper(basePath, directoryIndex);
+        List<String> walkIgnores = formatSourceIndependentIgnores(ignorePattern, placeholderUtil);
+        walkIgnores.addAll(getDirectoryIgnores(ignorePattern));
+        List<File> sources = fileHelper.getFiles(sourcePattern, walkIgnores);
         List<String> formattedIgnores = placeholderUtil.format(sources, ignorePattern, false);
         return fileHelper.filterOutIgnoredFiles(sources, formattedIgnores)
             .stream()
-            .filter(File::isFile);
+            .filter(directoryIndex::isFile);
+    }
+
+    /**
+     * First part of {@link #getFiles(String, String, List, PlaceholderUtil, DirectoryIndex)} that needs no project data,
+     * so it may run while the project is being fetched. Only ignore patterns without placeholders are applied here.
+     * @return files to pass to {@link #filterOutIgnored(String, List, List, PlaceholderUtil, DirectoryIndex)}
+     */
+    public static List<File> scanFiles(String basePath, String sourcePattern, List<String> ignorePattern, DirectoryIndex directoryIndex) {
+        if (basePath == null || sourcePattern == null || directoryIndex == null) {
+            throw new NullPointerException("null args in SourceUtils.scanFiles");
+        }
+        List<String> constantIgnores = (ignorePattern != null)
+            ? ignorePattern.stream()
+                .map(PlaceholderUtil::formatWithoutPlaceholders)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+            : new ArrayList<>();
+        constantIgnores.addAll(getDirectoryIgnores(ignorePattern));
+        return new FileHelper(basePath, directoryIndex).getFiles(sourcePattern, constantIgnores);
+    }
+
+    /**
+     * Second part of {@link #getFiles(String, String, List, PlaceholderUtil, DirectoryIndex)}: applies the ignore patterns
+     * with placeholders to the files found by {@link #scanFiles(String, String, List, DirectoryIndex)}.
+     * Source independent ignores go first, as they do during the walk of {@code getFiles}
+     */
+    public static Stream<File> filterOutIgnored(
+        String basePath, List<File> scannedFiles, List<String> ignorePattern, PlaceholderUtil placeholderUtil, DirectoryIndex directoryIndex
+    ) {
+        if (basePath == null || scannedFiles == null || placeholderUtil == null || directoryIndex == null) {
+            throw new NullPointerException("null args in SourceUtils.filterOutIgnored");
+        }
+        FileHelper fileHelper = new FileHelper(basePath, directoryIndex);
+        List<File> sources = fileHelper.filterOutIgnoredFiles(scannedFiles, formatSourceIndependentIgnores(ignorePattern, placeholderUtil));
+        List<String> formattedIgnores = placeholderUtil.format(sources, ignorePattern, false);
+        return fileHelper.filterOutIgnoredFiles(sources, formattedIgnores)
+            .stream()
+            .filter(directoryIndex::isFile);
+    }
+
+    private static List<String> formatSourceIndependentIgnores(List<String> ignorePattern, PlaceholderUtil placeholderUtil) {
+        return (ignorePattern != null)
+            ? ignorePattern.stream()
+                .filter(ignore -> !PlaceholderUtil.containsFileDependentPlaceholders(ignore))
+                .flatMap(ignore -> placeholderUtil.format(ignore, false).stream())
+                .collect(Collectors.toList())
+            : new ArrayList<>();
+    }
+
+    /**
+     * Ignore patterns like {@code /**}{@code /node_modules} are formatted for every source directory, so they are applied
+     * only after the sources are found. The walk already skips the directories they name, see {@link FileHelper#getFiles(String, List)}
+     */
+    private static List<String> getDirectoryIgnores(List<String> ignorePattern) {
+        return (ignorePattern != null)
+            ? ignorePattern.stream()
+                .map(Utils::normalizePath)
+                .filter(ignore -> ignore.contains(Utils.PATH_SEPARATOR + "**"))
+                .filter(ignore -> PlaceholderUtil.formatWithoutPlaceholders(ignore.replace(Utils.PATH_SEPARATOR + "**", "")).isPresent())
+                .collect(Collectors.toList())
+            : new ArrayList<>();
     }
 
     public static boolean containsPattern(String sourcePattern) {
@@ -0,0 +1,130 @@
+package com.crowdin.cli.commands.functionality;
+
+import com.crowdin.cli.client.Client;
+import com.crowdin.cli.utils.file.FileChannelInputStream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Uploads each distinct file content (with the same file name) to the storage only once per run
+ * and reuses its storage id. Storages are removed by the server after a while, so cached ids are
+ * used only for a limited time.
+ */
+public class StorageCache {
+
+    static final long STORAGE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Client client;
+    private final LongSupplier clock;
+    private final ConcurrentMap<List<String>, CompletableFuture<CachedStorage>> storages = new ConcurrentHashMap<>();
+
+    public StorageCache(Client client) {
+        this(client, System::currentTimeMillis);
+    }
+
+    StorageCache(Client client, LongSupplier clock) {
+        this.client = client;
+        this.clock = clock;
+    }
+
+    /**
+     * @param fileName name of the storage
+     * @param file file to upload
+     * @return id of a storage with the same name and content
+     */
+    public Long uploadStorage(String fileName, File file) throws IOException {
+        List<String> key = Arrays.asList(fileName, sha256(file));
+        while (true) {
+            CompletableFuture<CachedStorage> existing = storages.get(key);
+            if (existing != null && !this.isExpired(existing)) {
+                return await(existing).id;
+            }
+            CompletableFuture<CachedStorage> own = new CompletableFuture<>();
+            boolean owned = (existing == null)
+                ? storages.putIfAbsent(key, own) == null
+                : storages.replace(key, existing, own);
+            if (!owned) {
+                continue;
+            }
+            try (InputStream content = new FileChannelInputStream(file)) {
+                long uploadedAt = clock.getAsLong();
+                Long storageId = client.uploadStorage(fileName, content);
+                own.complete(new CachedStorage(storageId, uploadedAt));
+                return storageId;
+            } catch (IOException | RuntimeException e) {
+                storages.remove(key, own);
+                own.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private boolean isExpired(CompletableFuture<CachedStorage> storage) {
+        return storage.isDone() && !storage.isCompletedExceptionally()
+            && clock.getAsLong() - storage.join().uploadedAt > STORAGE_TTL_MILLIS;
+    }
+
+    private static CachedStorage await(CompletableFuture<CachedStorage> storage) throws IOException {
+        try {
+            return storage.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for storage", e);
+        }
+    }
+
+    private static String sha256(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Unexpected exception: SHA-256 is not supported", e);
+        }
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream content = new FileChannelInputStream(file)) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
+    }
+
+    private static class CachedStorage {
+
+        private final Long id;
+        private final long uploadedAt;
+
+        CachedStorage(Long id, long uploadedAt) {
+            this.id = id;
+            this.uploadedAt = uploadedAt;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.crowdin.cli.commands.picocli;
 
 import com.crowdin.cli.client.Client;
+import com.crowdin.cli.client.HttpTransport;
 import com.crowdin.cli.commands.Actions;
 import com.crowdin.cli.commands.ClientAction;
 import com.crowdin.cli.commands.Outputter;
@@ -20,9 +21,14 @@ abstract class ClientActCommand extends GenericCommand {
         PropertiesBean pb = actions
             .buildProperties(configProperties.getConfigFile(), configProperties.getIdentityFile(), configProperties.getParams())
             .act(out);
-        Client client = Client.getDefault(pb.getApiToken(), pb.getBaseUrl(), Long.parseLong(pb.getProjectId()));
+        HttpTransport transport = HttpTransport.fromEnvironment();
+        Client client = Client.getDefault(pb.getApiToken(), pb.getBaseUrl(), Long.parseLong(pb.getProjectId()), transport);
         ClientAction action = getAction(actions);
         action.act(out, pb, client);
+        if (debug) {
+            transport.getStatistics().ifPresent(out::println);
+            client.getStatistics().ifPresent(out::println);
+        }
     }
 
     protected abstract ClientAction getAction(Actions actions);
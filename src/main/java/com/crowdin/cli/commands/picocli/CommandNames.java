@@ -28,6 +28,7 @@ public final class CommandNames {
     public static final String STRING_DELETE = "delete";
     public static final String STRING_EDIT = "edit";
     public static final String STRING_LIST = "list";
+    public static final String STRING_IMPORT = "import";
 
     public static final String GLOSSARY = "glossary";
     public static final String GLOSSARY_LIST = "list";
@@ -4,13 +4,28 @@ import com.crowdin.cli.commands.Actions;
 import com.crowdin.cli.commands.ClientAction;
 import picocli.CommandLine;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @CommandLine.Command(
     name = CommandNames.GLOSSARY_LIST
 )
 class GlossaryListSubcommand extends ClientActPlainMixin {
 
+    @CommandLine.Option(names = {"--limit"}, paramLabel = "...")
+    protected Integer limit;
+
+    @Override
+    protected List<String> checkOptions() {
+        List<String> errors = new ArrayList<>();
+        if (limit != null && limit < 1) {
+            errors.add(RESOURCE_BUNDLE.getString("error.glossary.wrong_limit"));
+        }
+        return errors;
+    }
+
     @Override
     protected ClientAction getAction(Actions actions) {
-        return actions.glossaryList(this.plainView, this.isVerbose);
+        return actions.glossaryList(this.plainView, this.isVerbose, this.limit);
     }
 }
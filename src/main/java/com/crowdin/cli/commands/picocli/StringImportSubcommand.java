@@ -0,0 +1,38 @@
+package com.crowdin.cli.commands.picocli;
+
+import com.crowdin.cli.commands.Actions;
+import com.crowdin.cli.commands.ClientAction;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import picocli.CommandLine;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@CommandLine.Command(
+    name = CommandNames.STRING_IMPORT
+)
+class StringImportSubcommand extends ClientActCommand {
+
+    @CommandLine.Parameters(descriptionKey = "crowdin.string.import.file")
+    protected File file;
+
+    @Override
+    protected List<String> checkOptions() {
+        List<String> errors = new ArrayList<>();
+        if (!file.exists()) {
+            errors.add(String.format("File '%s' doesn't exist", file));
+        }
+        if (!Arrays.asList("csv", "json", "jsonl").contains(StringUtils.lowerCase(FilenameUtils.getExtension(file.getName())))) {
+            errors.add(RESOURCE_BUNDLE.getString("error.string_import.wrong_format"));
+        }
+        return errors;
+    }
+
+    @Override
+    protected ClientAction getAction(Actions actions) {
+        return actions.stringImport(noProgress, file);
+    }
+}
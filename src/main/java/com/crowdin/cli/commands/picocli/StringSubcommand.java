@@ -8,7 +8,8 @@ import picocli.CommandLine;
         StringListSubcommand.class,
         StringAddSubcommand.class,
         StringDeleteSubcommand.class,
-        StringEditSubcommand.class
+        StringEditSubcommand.class,
+        StringImportSubcommand.class
     }
 )
 class StringSubcommand extends HelpCommand {
@@ -0,0 +1,212 @@
+package com.crowdin.cli.properties.helper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+/**
+ * In-memory index of the file system, shared by all file patterns of one command.
+ * Each directory is read from disk only once, when some pattern reaches it for the first time,
+ * and every later lookup of it (or of its entries) is answered from memory.
+ * Attributes of an entry are read once, together with the listing of its directory.
+ */
+public class DirectoryIndex {
+
+    /**
+     * Threads of the walk mostly wait for the disk, so there are more of them than cores
+     */
+    private static final int WALK_THREADS = 16;
+
+    /**
+     * Dedicated pool for the blocking directory reads of walks, so they don't occupy the common pool
+     */
+    private static final ForkJoinPool walkPool = new ForkJoinPool(WALK_THREADS, pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("crowdin-directory-walk-" + thread.getPoolIndex());
+        return thread;
+    }, null, false);
+
+    private final ConcurrentMap<File, List<Entry>> listings = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<File, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param file file to check
+     * @return true if the file exists and is a directory (symbolic links are followed)
+     */
+    public boolean isDirectory(File file) {
+        return this.get(file).isDirectory();
+    }
+
+    /**
+     * @param file file to check
+     * @return true if the file exists and is a regular file (symbolic links are followed)
+     */
+    public boolean isFile(File file) {
+        return this.get(file).isFile();
+    }
+
+    Entry get(File file) {
+        Entry entry = entries.get(file);
+        if (entry == null) {
+            entry = Entry.read(file);
+            Entry existing = entries.putIfAbsent(file, entry);
+            if (existing != null) {
+                entry = existing;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * @param directory directory to list
+     * @return entries of the directory or empty list if it isn't a readable directory
+     */
+    List<Entry> list(File directory) {
+        List<Entry> listing = listings.get(directory);
+        if (listing == null) {
+            listing = this.read(directory);
+            List<Entry> existing = listings.putIfAbsent(directory, listing);
+            if (existing != null) {
+                listing = existing;
+            }
+        }
+        return listing;
+    }
+
+    /**
+     * Walks the directory tree in parallel. Symbolic links to directories are not followed.
+     *
+     * @param directory root of the tree
+     * @return the root itself and all directories under it
+     */
+    List<File> walk(File directory) {
+        return this.walk(directory, dir -> false);
+    }
+
+    /**
+     * @param directory root of the tree
+     * @param skip directories to leave out together with everything under them
+     * @return the root itself and all directories under it, except the skipped ones
+     */
+    List<File> walk(File directory, Predicate<File> skip) {
+        return walkPool.invoke(new WalkTask(directory, skip));
+    }
+
+    private List<Entry> read(File directory) {
+        List<Entry> listing = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (Path path : stream) {
+                listing.add(this.get(new File(directory, path.getFileName().toString())));
+            }
+        } catch (IOException | InvalidPathException | DirectoryIteratorException e) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(listing);
+    }
+
+    private class WalkTask extends RecursiveTask<List<File>> {
+
+        private final File directory;
+        private final Predicate<File> skip;
+
+        WalkTask(File directory, Predicate<File> skip) {
+            this.directory = directory;
+            this.skip = skip;
+        }
+
+        @Override
+        protected List<File> compute() {
+            List<File> result = new ArrayList<>();
+            result.add(directory);
+            List<WalkTask> subtasks = new ArrayList<>();
+            for (Entry entry : list(directory)) {
+                if (entry.isRealDirectory() && !skip.test(entry.getFile())) {
+                    WalkTask subtask = new WalkTask(entry.getFile(), skip);
+                    subtask.fork();
+                    subtasks.add(subtask);
+                }
+            }
+            for (WalkTask subtask : subtasks) {
+                result.addAll(subtask.join());
+            }
+            return result;
+        }
+    }
+
+    static class Entry {
+
+        private final File file;
+        private final boolean exists;
+        private final boolean directory;
+        private final boolean regularFile;
+        private final boolean symbolicLink;
+
+        private Entry(File file, boolean exists, boolean directory, boolean regularFile, boolean symbolicLink) {
+            this.file = file;
+            this.exists = exists;
+            this.directory = directory;
+            this.regularFile = regularFile;
+            this.symbolicLink = symbolicLink;
+        }
+
+        static Entry read(File file) {
+            Path path;
+            BasicFileAttributes attributes;
+            try {
+                path = file.toPath();
+                attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (IOException | InvalidPathException e) {
+                return new Entry(file, false, false, false, false);
+            }
+            if (!attributes.isSymbolicLink()) {
+                return new Entry(file, true, attributes.isDirectory(), attributes.isRegularFile(), false);
+            }
+            try {
+                BasicFileAttributes target = Files.readAttributes(path, BasicFileAttributes.class);
+                return new Entry(file, true, target.isDirectory(), target.isRegularFile(), true);
+            } catch (IOException e) {
+//                broken link
+                return new Entry(file, false, false, false, true);
+            }
+        }
+
+        File getFile() {
+            return file;
+        }
+
+        boolean exists() {
+            return exists;
+        }
+
+        boolean isDirectory() {
+            return directory;
+        }
+
+        boolean isFile() {
+            return regularFile;
+        }
+
+        /**
+         * @return true if it is a directory itself, not a symbolic link to one
+         */
+        boolean isRealDirectory() {
+            return directory && !symbolicLink;
+        }
+    }
+}
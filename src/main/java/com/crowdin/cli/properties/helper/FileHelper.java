@@ -1,17 +1,15 @@
 package com.crowdin.cli.properties.helper;
 
 import com.crowdin.cli.utils.Utils;
-import org.apache.commons.io.filefilter.RegexFileFilter;
+import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
-import java.io.FileFilter;
-import java.nio.file.Files;
-import java.nio.file.LinkOption;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 
@@ -53,20 +51,48 @@ public class FileHelper {
 
     private static final String ESCAPE_ASTERISK_PLACEHOLDER = "{ESCAPE_ASTERISK}";
 
+    private static final String GLOB_SPECIAL_CHARS = "*?[]{}";
+
     private final String basePath;
 
+    private final DirectoryIndex directoryIndex;
+
     public FileHelper(String basePath) {
-        if (basePath == null) {
+        this(basePath, new DirectoryIndex());
+    }
+
+    /**
+     * @param basePath base path of the project
+     * @param directoryIndex index to read the file system from. Share it between helpers of one command,
+     *                       so every directory is read from disk only once
+     */
+    public FileHelper(String basePath, DirectoryIndex directoryIndex) {
+        if (basePath == null || directoryIndex == null) {
             throw new NullPointerException("in FileHelper.constructor");
         }
         this.basePath = basePath;
+        this.directoryIndex = directoryIndex;
     }
 
     public List<File> getFiles(String source) {
-        if (source == null) {
+        return this.getFiles(source, new ArrayList<>());
+    }
+
+    /**
+     * Same as {@link #getFiles(String)}, but doesn't descend into directories that are ignored as a whole
+     * by {@link #filterOutIgnoredFiles(List, List)}, so nothing under them is returned. These are existing directories
+     * and patterns whose last part is a plain name, such as {@code /**}{@code /node_modules}.
+     *
+     * @param source the source pattern.
+     * @param ignores the formatted ignore patterns.
+     * @return the list of files and directories matching the source pattern.
+     */
+    public List<File> getFiles(String source, List<String> ignores) {
+        if (source == null || ignores == null) {
             throw new NullPointerException("NPE in FileHelper.getFiles");
         }
 
+        Predicate<File> ignoredDirectories = this.getIgnoredDirectories(ignores);
         Set<File> resultList = new HashSet<>();
 
         String[] nodes = Utils.normalizePath(source).split(Utils.PATH_SEPARATOR_REGEX);
@@ -76,9 +102,9 @@ public class FileHelper {
                 continue;
             }
             if (DOUBLED_ASTERISK.equals(node)) {
-                resultList = findFiles(resultList, node);
+                resultList = findFiles(resultList, node, ignoredDirectories);
             } else {
-                resultList = findFiles(resultList, translateToRegex(node));
+                resultList = findFiles(resultList, translateToRegex(node), ignoredDirectories);
             }
             if (resultList.isEmpty()) {
                 break;
@@ -99,25 +125,107 @@ public class FileHelper {
             throw new NullPointerException("NPE in FileHelper.filterOutIgnoredFiles");
         }
 
-        List<FileMatcher> matchers = new ArrayList<>(ignores.size());
+        // ignores without glob syntax (most of the formatted ones) are looked up in sets instead of being matched one by one
+        Set<File> ignoredFiles = new HashSet<>();
+        Set<File> ignoredDirectories = new HashSet<>();
+        List<FileMatcher> matchers = new ArrayList<>();
         for (String pattern : ignores) {
-            if (new File(basePath + pattern).isDirectory()) {
-                matchers.add(new FileMatcher(pattern + Utils.PATH_SEPARATOR + "*", basePath));
-                matchers.add(new FileMatcher(pattern + Utils.PATH_SEPARATOR + "**" + Utils.PATH_SEPARATOR + "*", basePath));
+            boolean literal = this.isLiteral(pattern);
+            if (directoryIndex.isDirectory(new File(basePath + pattern))) {
+                if (literal) {
+                    ignoredDirectories.add(new File(basePath, pattern));
+                } else {
+                    matchers.add(new FileMatcher(pattern + Utils.PATH_SEPARATOR + "*", basePath));
+                    matchers.add(new FileMatcher(pattern + Utils.PATH_SEPARATOR + "**" + Utils.PATH_SEPARATOR + "*", basePath));
+                }
+            } else if (literal && !pattern.endsWith(Utils.PATH_SEPARATOR)) {
+                ignoredFiles.add(new File(basePath, pattern));
             } else {
                 matchers.add(new FileMatcher(pattern, basePath));
                 if (pattern.contains("**")) {
                     matchers.add(new FileMatcher(pattern.replace(Utils.PATH_SEPARATOR, ""), basePath));
                 }
+                for (String directoryPattern : this.getDirectoryPatterns(pattern)) {
+                    matchers.add(new FileMatcher(directoryPattern + Utils.PATH_SEPARATOR + "**", basePath));
+                }
             }
         }
 
         return sources
             .stream()
+            .filter(source -> !ignoredFiles.contains(source))
+            .filter(source -> !isUnderAny(source, ignoredDirectories))
             .filter(source -> matchers.stream().noneMatch(m -> m.matches(source)))
             .collect(Collectors.toList());
     }
 
+    /**
+     * Finds directories that are ignored as a whole: ignore patterns that are existing directories, and directories
+     * matching the patterns of {@link #getDirectoryPatterns(String)}. Every file under such a directory is filtered out,
+     * so there is no need to look into it.
+     */
+    private Predicate<File> getIgnoredDirectories(List<String> ignores) {
+        Set<File> directories = new HashSet<>();
+        List<FileMatcher> matchers = new ArrayList<>();
+        for (String pattern : ignores) {
+            if (this.isLiteral(pattern)) {
+                File directory = new File(basePath + pattern);
+                if (directoryIndex.isDirectory(directory)) {
+                    directories.add(directory);
+                }
+            } else {
+                for (String directoryPattern : this.getDirectoryPatterns(pattern)) {
+                    matchers.add(new FileMatcher(directoryPattern, basePath));
+                }
+            }
+        }
+        if (matchers.isEmpty()) {
+            return directories::contains;
+        }
+        return directory -> directories.contains(directory) || matchers.stream().anyMatch(matcher -> matcher.matches(directory));
+    }
+
+    /**
+     * @param pattern ignore pattern with glob syntax
+     * @return patterns of the directories it names if its last part is a plain name, like {@code /**}{@code /build}:
+     *     the pattern itself and, for {@code **}, the pattern with no directories in place of it. Empty otherwise
+     */
+    private List<String> getDirectoryPatterns(String pattern) {
+        String directoryPattern = StringUtils.removeEnd(pattern, Utils.PATH_SEPARATOR);
+        String name = directoryPattern.substring(directoryPattern.lastIndexOf(Utils.PATH_SEPARATOR) + 1);
+        if (name.isEmpty() || this.isLiteral(pattern) || !this.isLiteral(name)) {
+            return new ArrayList<>();
+        }
+        List<String> result = new ArrayList<>();
+        result.add(directoryPattern);
+        if (directoryPattern.contains(DOUBLED_ASTERISK + Utils.PATH_SEPARATOR)) {
+            result.add(directoryPattern.replace(DOUBLED_ASTERISK + Utils.PATH_SEPARATOR, ""));
+        }
+        return result;
+    }
+
+    /**
+     * @return true if the matcher of the pattern would match only the path itself
+     */
+    private boolean isLiteral(String pattern) {
+        String path = basePath + pattern;
+        return !StringUtils.containsAny(path, GLOB_SPECIAL_CHARS)
+            && (Utils.isWindows() || !path.contains("\\"))
+            && pattern.equals(pattern.trim()) && basePath.equals(basePath.trim());
+    }
+
+    private static boolean isUnderAny(File file, Set<File> directories) {
+        if (directories.isEmpty()) {
+            return false;
+        }
+        for (File parent = file.getParentFile(); parent != null; parent = parent.getParentFile()) {
+            if (directories.contains(parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String translateToRegex(String node) {
         node = node
             .replace(ESCAPE_DOT, ESCAPE_DOT_PLACEHOLDER)
@@ -144,40 +252,29 @@ public class FileHelper {
      *
      * @param paths  the list of results.  <strong>Mutated as a side-effect!</strong>
      * @param node        the current element of the pattern being matched.
+     * @param ignoredDirectories directories to skip.
      * @return the new list of results.
      */
-    private Set<File> findFiles(Set<File> paths, String node) {
+    private Set<File> findFiles(Set<File> paths, String node, Predicate<File> ignoredDirectories) {
         Set<File> result = new HashSet<>();
+        Pattern pattern = DOUBLED_ASTERISK.equals(node) ? null : Pattern.compile(node);
         for (File file : paths) {
-            if (!file.exists()) {
+            DirectoryIndex.Entry entry = directoryIndex.get(file);
+            if (!entry.exists()) {
                 continue;
             }
             if (DOUBLED_ASTERISK.equals(node)) {
-                result.addAll(getlistDirectory(file));
-            } else if (file.isDirectory()) {
-                FileFilter fileFilter = new RegexFileFilter(node);
-                File[] files = file.listFiles(fileFilter);
-                if (files == null) {
-                    continue;
+                result.addAll(directoryIndex.walk(file, ignoredDirectories));
+            } else if (entry.isDirectory()) {
+                for (DirectoryIndex.Entry child : directoryIndex.list(file)) {
+                    if (pattern.matcher(child.getFile().getName()).matches()
+                            && !(child.isDirectory() && ignoredDirectories.test(child.getFile()))) {
+                        result.add(child.getFile());
+                    }
                 }
-                result.addAll(Arrays.asList(files));
             }
         }
         return result;
     }
 
-    private List<File> getlistDirectory(File directory) {
-        List<File> resultList = new ArrayList<>();
-        resultList.add(directory);
-        File[] fileList = directory.listFiles();
-        if (fileList != null) {
-            for (File file : fileList) {
-                if (Files.isDirectory(file.toPath(), LinkOption.NOFOLLOW_LINKS)) {
-                    resultList.addAll(getlistDirectory(file));
-                }
-            }
-        }
-        return resultList;
-    }
-
 }
\ No newline at end of file
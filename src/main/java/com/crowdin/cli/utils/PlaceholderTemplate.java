@@ -0,0 +1,91 @@
+package com.crowdin.cli.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pattern with placeholders (like {@code %locale%}), parsed once into literal parts and placeholder indexes.
+ * Rendering only appends the parts and the values to one {@link StringBuilder}.
+ */
+public final class PlaceholderTemplate {
+
+    private final String pattern;
+    private final String[] literals;
+    private final int[] placeholders;
+
+    private PlaceholderTemplate(String pattern, String[] literals, int[] placeholders) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * @param pattern pattern to parse
+     * @param placeholders known placeholders. Their positions are the indexes of values in {@link #render(String[])}
+     * @return parsed template
+     */
+    public static PlaceholderTemplate parse(String pattern, List<String> placeholders) {
+        if (pattern == null || placeholders == null) {
+            throw new NullPointerException("null args in PlaceholderTemplate.parse()");
+        }
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < placeholders.size(); i++) {
+            indexes.put(placeholders.get(i), i);
+        }
+        List<String> literals = new ArrayList<>();
+        List<Integer> found = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < pattern.length()) {
+            int start = pattern.indexOf('%', position);
+            int end = (start != -1) ? pattern.indexOf('%', start + 1) : -1;
+            if (end == -1) {
+                literal.append(pattern, position, pattern.length());
+                break;
+            }
+            Integer index = indexes.get(pattern.substring(start, end + 1));
+            if (index == null) {
+//                not a placeholder, the closing '%' may open the next one
+                literal.append(pattern, position, end);
+                position = end;
+            } else {
+                literal.append(pattern, position, start);
+                literals.add(literal.toString());
+                literal.setLength(0);
+                found.add(index);
+                position = end + 1;
+            }
+        }
+        literals.add(literal.toString());
+        return new PlaceholderTemplate(pattern, literals.toArray(new String[0]), found.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * @return true if the pattern has at least one placeholder
+     */
+    public boolean hasPlaceholders() {
+        return placeholders.length > 0;
+    }
+
+    /**
+     * @param values values of placeholders, in the same order as the placeholders given to {@link #parse(String, List)}
+     * @return pattern with all placeholders replaced
+     */
+    public String render(String[] values) {
+        if (placeholders.length == 0) {
+            return pattern;
+        }
+        int length = literals[0].length();
+        for (int i = 0; i < placeholders.length; i++) {
+            length += String.valueOf(values[placeholders[i]]).length() + literals[i + 1].length();
+        }
+        StringBuilder result = new StringBuilder(length);
+        result.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            result.append(values[placeholders[i]]).append(literals[i + 1]);
+        }
+        return result.toString();
+    }
+}
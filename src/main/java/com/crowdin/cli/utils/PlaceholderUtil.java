@@ -7,9 +7,18 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 public class PlaceholderUtil {
@@ -28,6 +37,29 @@ public class PlaceholderUtil {
     protected static final String PLACEHOLDER_ORIGINAL_PATH = "%original_path%";
     protected static final String PLACEHOLDER_LANGUAGE_ID = "%language_id%";
 
+    /**
+     * Placeholders resolved by {@link #replaceLanguageDependentPlaceholders(String, LanguageMapping, Language)}, in order of their values
+     */
+    private static final List<String> LANGUAGE_PLACEHOLDERS = Arrays.asList(
+        PLACEHOLDER_LANGUAGE_ID,
+        PLACEHOLDER_LANGUAGE,
+        PLACEHOLDER_LOCALE,
+        PLACEHOLDER_LOCALE_WITH_UNDERSCORE,
+        PLACEHOLDER_TWO_LETTERS_CODE,
+        PLACEHOLDER_THREE_LETTERS_CODE,
+        PLACEHOLDER_ANDROID_CODE,
+        PLACEHOLDER_OSX_LOCALE,
+        PLACEHOLDER_OSX_CODE);
+
+    private static final String[] LANGUAGE_MAPPING_KEYS = LANGUAGE_PLACEHOLDERS.stream()
+        .map(placeholder -> placeholder.replace("%", ""))
+        .toArray(String[]::new);
+
+    /**
+     * Values of language placeholders by language mappings (compared by value) and language ids
+     */
+    private final ConcurrentMap<LanguageMapping, Map<String, String[]>> languageValues = new ConcurrentHashMap<>();
+
     private List<Language> supportedLangs;
     private List<Language> projectLangs;
     private String basePath;
@@ -57,14 +89,79 @@ public class PlaceholderUtil {
             return new HashSet<>();
         }
         List<Language> languages = (onProjectLangs ? projectLangs : supportedLangs);
-        Set<String> result = languages.stream()
+        if (languages.isEmpty() || sources.isEmpty()) {
+            return new HashSet<>();
+        }
+//        expand only the placeholders the pattern has: a pattern without language placeholders is the same for every language,
+//        and a pattern without file name placeholders is the same for all sources in one directory
+        Collection<String> languageFormatted = (containsLanguageDependentPlaceholders(toFormat))
+            ? languages.stream()
                 .map(lang -> this.replaceLanguageDependentPlaceholders(toFormat, lang))
-                .flatMap(changedToFormat -> sources.stream()
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+            : Collections.singletonList(toFormat);
+        Collection<File> distinctSources = getDistinctSources(sources, toFormat);
+        Set<String> result = languageFormatted.stream()
+                .flatMap(changedToFormat -> distinctSources.stream()
                         .map(source -> this.replaceFileDependentPlaceholders(changedToFormat, source)))
                 .collect(Collectors.toSet());
         return result;
     }
 
+    private static Collection<File> getDistinctSources(List<File> sources, String toFormat) {
+        if (StringUtils.containsAny(toFormat, PLACEHOLDER_ORIGINAL_FILE_NAME, PLACEHOLDER_FILE_NAME, PLACEHOLDER_FILE_EXTENTION)) {
+            return sources;
+        } else if (containsFileDependentPlaceholders(toFormat)) {
+            return sources.stream()
+                .collect(Collectors.toMap(source -> String.valueOf(source.getParent()), source -> source, (first, second) -> first, LinkedHashMap::new))
+                .values();
+        } else {
+            return Collections.singletonList(sources.get(0));
+        }
+    }
+
+    private static boolean containsLanguageDependentPlaceholders(String toFormat) {
+        return StringUtils.containsAny(toFormat,
+            PLACEHOLDER_LANGUAGE_ID,
+            PLACEHOLDER_LANGUAGE,
+            PLACEHOLDER_LOCALE,
+            PLACEHOLDER_LOCALE_WITH_UNDERSCORE,
+            PLACEHOLDER_TWO_LETTERS_CODE,
+            PLACEHOLDER_THREE_LETTERS_CODE,
+            PLACEHOLDER_ANDROID_CODE,
+            PLACEHOLDER_OSX_LOCALE,
+            PLACEHOLDER_OSX_CODE);
+    }
+
+    /**
+     * Formats a pattern that doesn't contain file dependent placeholders, see {@link #containsFileDependentPlaceholders(String)}.
+     * It is formatted the same way for every source file, so no sources are needed.
+     */
+    public Set<String> format(String toFormat, boolean onProjectLangs) {
+        if (toFormat == null) {
+            return new HashSet<>();
+        }
+        if (containsFileDependentPlaceholders(toFormat)) {
+            throw new IllegalArgumentException("file dependent placeholders in PlaceholderUtil.format()");
+        }
+        List<Language> languages = (onProjectLangs ? projectLangs : supportedLangs);
+        return languages.stream()
+            .map(lang -> this.replaceLanguageDependentPlaceholders(toFormat, lang))
+            .map(PlaceholderUtil::normalizeSeparators)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Formats a pattern that contains no placeholders. It is formatted the same way for every language and source file,
+     * so neither languages nor sources are needed.
+     * @return formatted pattern or empty if the pattern contains placeholders
+     */
+    public static Optional<String> formatWithoutPlaceholders(String toFormat) {
+        if (toFormat == null || containsFileDependentPlaceholders(toFormat) || containsLanguageDependentPlaceholders(toFormat)) {
+            return Optional.empty();
+        }
+        return Optional.of(normalizeSeparators(toFormat));
+    }
+
     public String replaceLanguageDependentPlaceholders(String toFormat, Language lang) {
         if (toFormat == null || lang == null) {
             throw new NullPointerException("null args in replaceLanguageDependentPlaceholders()");
@@ -82,36 +179,71 @@ public class PlaceholderUtil {
     }
 
     public List<String> replaceLanguageDependentPlaceholders(String toFormat, LanguageMapping languageMapping) {
+        if (toFormat == null) {
+            throw new NullPointerException("null args in replaceLanguageDependentPlaceholders()");
+        }
+        PlaceholderTemplate template = parseLanguagePlaceholders(toFormat);
         return projectLangs
             .stream()
-            .map(lang -> replaceLanguageDependentPlaceholders(toFormat, languageMapping, lang))
+            .map(lang -> replaceLanguageDependentPlaceholders(template, languageMapping, lang))
             .collect(Collectors.toList());
     }
 
     public String replaceLanguageDependentPlaceholders(String toFormat, LanguageMapping langMapping, Language lang) {
-        if (toFormat == null || lang == null || langMapping == null) {
+        if (toFormat == null) {
             throw new NullPointerException("null args in replaceLanguageDependentPlaceholders()");
         }
-        return toFormat
-            .replaceAll(PLACEHOLDER_LANGUAGE_ID, langMapping.getValueOrDefault(lang.getId(),
-                PLACEHOLDER_LANGUAGE_ID.replaceAll("%", ""), lang.getId()))
-            .replaceAll(PLACEHOLDER_LANGUAGE, langMapping.getValueOrDefault(lang.getId(),
-                PLACEHOLDER_LANGUAGE.replaceAll("%", ""), langMapping.getValueOrDefault(
-                    lang.getId(), "name", lang.getName())))
-            .replaceAll(PLACEHOLDER_LOCALE, langMapping.getValueOrDefault(lang.getId(),
-                PLACEHOLDER_LOCALE.replaceAll("%", ""), lang.getLocale()))
-            .replaceAll(PLACEHOLDER_LOCALE_WITH_UNDERSCORE, langMapping.getValueOrDefault(lang.getId(),
-                PLACEHOLDER_LOCALE_WITH_UNDERSCORE.replaceAll("%", ""), lang.getLocale().replace("-", "_")))
-            .replaceAll(PLACEHOLDER_TWO_LETTERS_CODE, langMapping.getValueOrDefault(lang.getId(),
-                PLACEHOLDER_TWO_LETTERS_CODE.replaceAll("%", ""), lang.getTwoLettersCode()))
-            .replaceAll(PLACEHOLDER_THREE_LETTERS_CODE, langMapping.getValueOrDefault(lang.getId(),
-                PLACEHOLDER_THREE_LETTERS_CODE.replaceAll("%", ""), lang.getThreeLettersCode()))
-            .replaceAll(PLACEHOLDER_ANDROID_CODE, langMapping.getValueOrDefault(lang.getId(),
-                PLACEHOLDER_ANDROID_CODE.replaceAll("%", ""), lang.getAndroidCode()))
-            .replaceAll(PLACEHOLDER_OSX_LOCALE, langMapping.getValueOrDefault(lang.getId(),
-                PLACEHOLDER_OSX_LOCALE.replaceAll("%", ""), lang.getOsxLocale()))
-            .replaceAll(PLACEHOLDER_OSX_CODE, langMapping.getValueOrDefault(lang.getId(),
-                PLACEHOLDER_OSX_CODE.replaceAll("%", ""), lang.getOsxCode()));
+        return replaceLanguageDependentPlaceholders(parseLanguagePlaceholders(toFormat), langMapping, lang);
+    }
+
+    /**
+     * Same as {@link #replaceLanguageDependentPlaceholders(String, LanguageMapping, Language)} for a pattern parsed
+     * with {@link #parseLanguagePlaceholders(String)}. Callers that render one pattern for many languages parse it once
+     */
+    public String replaceLanguageDependentPlaceholders(PlaceholderTemplate template, LanguageMapping langMapping, Language lang) {
+        if (template == null || lang == null || langMapping == null) {
+            throw new NullPointerException("null args in replaceLanguageDependentPlaceholders()");
+        }
+        return template.render(this.getLanguageValues(langMapping, lang));
+    }
+
+    /**
+     * @param toFormat pattern with language placeholders
+     * @return template to render with {@link #replaceLanguageDependentPlaceholders(PlaceholderTemplate, LanguageMapping, Language)}
+     */
+    public static PlaceholderTemplate parseLanguagePlaceholders(String toFormat) {
+        return PlaceholderTemplate.parse(toFormat, LANGUAGE_PLACEHOLDERS);
+    }
+
+    /**
+     * @return values of {@link #LANGUAGE_PLACEHOLDERS} for the language, computed once per language mapping
+     */
+    private String[] getLanguageValues(LanguageMapping langMapping, Language lang) {
+        Map<String, String[]> mappingValues = languageValues.get(langMapping);
+        if (mappingValues == null) {
+            mappingValues = new ConcurrentHashMap<>();
+            Map<String, String[]> existing = languageValues.putIfAbsent(langMapping, mappingValues);
+            if (existing != null) {
+                mappingValues = existing;
+            }
+        }
+        String[] values = mappingValues.get(lang.getId());
+        if (values == null) {
+            values = new String[] {
+                langMapping.getValueOrDefault(lang.getId(), LANGUAGE_MAPPING_KEYS[0], lang.getId()),
+                langMapping.getValueOrDefault(lang.getId(), LANGUAGE_MAPPING_KEYS[1],
+                    langMapping.getValueOrDefault(lang.getId(), "name", lang.getName())),
+                langMapping.getValueOrDefault(lang.getId(), LANGUAGE_MAPPING_KEYS[2], lang.getLocale()),
+                langMapping.getValueOrDefault(lang.getId(), LANGUAGE_MAPPING_KEYS[3], lang.getLocale().replace("-", "_")),
+                langMapping.getValueOrDefault(lang.getId(), LANGUAGE_MAPPING_KEYS[4], lang.getTwoLettersCode()),
+                langMapping.getValueOrDefault(lang.getId(), LANGUAGE_MAPPING_KEYS[5], lang.getThreeLettersCode()),
+                langMapping.getValueOrDefault(lang.getId(), LANGUAGE_MAPPING_KEYS[6], lang.getAndroidCode()),
+                langMapping.getValueOrDefault(lang.getId(), LANGUAGE_MAPPING_KEYS[7], lang.getOsxLocale()),
+                langMapping.getValueOrDefault(lang.getId(), LANGUAGE_MAPPING_KEYS[8], lang.getOsxCode())
+            };
+            mappingValues.put(lang.getId(), values);
+        }
+        return values;
     }
 
     public String replaceFileDependentPlaceholders(String toFormat, File file) {
@@ -132,10 +264,24 @@ public class PlaceholderUtil {
             Utils.PATH_SEPARATOR
                 + StringUtils.removeStart(fileParent,
                     StringUtils.removeStart(StringUtils.substringBefore(toFormat, Utils.PATH_SEPARATOR + "**"), Utils.PATH_SEPARATOR));
-        toFormat = toFormat
-                .replace(Utils.PATH_SEPARATOR + "**", doubleAsterisks)
-                .replaceAll("[\\\\/]+", Utils.PATH_SEPARATOR_REGEX);
-        return StringUtils.removeStart(toFormat, Utils.PATH_SEPARATOR);
+        return normalizeSeparators(toFormat.replace(Utils.PATH_SEPARATOR + "**", doubleAsterisks));
+    }
+
+    private static String normalizeSeparators(String toFormat) {
+        return StringUtils.removeStart(toFormat.replaceAll("[\\\\/]+", Utils.PATH_SEPARATOR_REGEX), Utils.PATH_SEPARATOR);
+    }
+
+    /**
+     * @param pattern pattern to check
+     * @return true if the pattern is formatted differently for different source files
+     */
+    public static boolean containsFileDependentPlaceholders(String pattern) {
+        return StringUtils.containsAny(pattern,
+            PLACEHOLDER_ORIGINAL_FILE_NAME,
+            PLACEHOLDER_FILE_NAME,
+            PLACEHOLDER_FILE_EXTENTION,
+            PLACEHOLDER_ORIGINAL_PATH,
+            Utils.PATH_SEPARATOR + "**");
     }
 
     public static boolean containsLangPlaceholders(String translationsPattern) {
@@ -1,11 +1,16 @@
 package com.crowdin.cli.utils;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.SystemUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URL;
 import java.nio.file.FileSystems;
 import java.util.List;
 import java.util.Optional;
@@ -97,6 +102,19 @@ public class Utils {
         return Optional.of(new ImmutablePair<>(System.getenv(HTTP_PROXY_HOST_ENV), port));
     }
 
+    /**
+     * Opens http(s) urls through the proxy from the environment, if there is one.
+     * The proxy is passed to the connection, so it isn't set for the whole JVM
+     */
+    public static InputStream openStream(URL url) throws IOException {
+        Optional<Pair<String, Integer>> proxyHost = proxyHost();
+        if (proxyHost.isPresent() && StringUtils.startsWithIgnoreCase(url.getProtocol(), "http")) {
+            Proxy proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxyHost.get().getKey(), proxyHost.get().getValue()));
+            return url.openConnection(proxy).getInputStream();
+        }
+        return url.openStream();
+    }
+
     public static Optional<Pair<String, String>> proxyCredentials() {
         if (System.getenv(HTTP_PROXY_USER_ENV) != null && System.getenv(HTTP_PROXY_PASSWORD_ENV) != null) {
             return Optional.of(new ImmutablePair<>(System.getenv(HTTP_PROXY_USER_ENV), System.getenv(HTTP_PROXY_PASSWORD_ENV)));
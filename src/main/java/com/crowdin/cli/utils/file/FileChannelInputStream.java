@@ -0,0 +1,78 @@
+package com.crowdin.cli.utils.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Input stream of a file with known length. Reads the file through a small direct buffer,
+ * so memory usage doesn't depend on the file size.
+ */
+public class FileChannelInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final long length;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    public FileChannelInputStream(File file) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.length = channel.size();
+        this.buffer.flip();
+    }
+
+    /**
+     * @return length of the file in bytes
+     */
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!this.fillBuffer()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!this.fillBuffer()) {
+            return -1;
+        }
+        int count = Math.min(len, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean fillBuffer() throws IOException {
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+        return read > 0;
+    }
+}
@@ -1,8 +1,13 @@
 package com.crowdin.cli.client;
 
+import com.crowdin.cli.client.models.BranchBuilder;
+import com.crowdin.cli.client.models.DirectoryBuilder;
+import com.crowdin.cli.client.models.FileBuilder;
 import com.crowdin.cli.client.models.HttpExceptionBuilder;
 import com.crowdin.cli.utils.LanguageBuilder;
+import com.crowdin.cli.utils.Utils;
 import com.crowdin.client.core.http.HttpClient;
+import com.crowdin.client.core.http.HttpRequestConfig;
 import com.crowdin.client.core.http.impl.json.JacksonJsonTransformer;
 import com.crowdin.client.core.model.ClientConfig;
 import com.crowdin.client.core.model.Credentials;
@@ -73,12 +78,15 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -142,6 +150,8 @@ public class CrowdinClientTest {
         String.format("%s/projects/%d/strings", url, projectId);
     private static final String listSourceStringUrl =
         String.format("%s/projects/%d/strings", url, projectId);
+    private static final String getSourceStringUrl =
+        String.format("%s/projects/%d/strings/%d", url, projectId, stringId);
     private static final String deleteSourceStringUrl =
         String.format("%s/projects/%d/strings/%d", url, projectId, stringId);
     private static final String editSourceStringUrl =
@@ -246,11 +256,12 @@ public class CrowdinClientTest {
         when(httpClientMock.get(eq(listBranchesUrl), any(), eq(BranchResponseList.class)))
             .thenReturn(branchesResponse);
 
-        CrowdinProject crowdinProject = client.downloadFullProject();
+        CrowdinProjectFull crowdinProject = client.downloadFullProject();
         assertEquals(1, crowdinProject.getProjectLanguages(false).size());
         assertEquals(2, crowdinProject.getSupportedLanguages().size());
         assertTrue(crowdinProject.findLanguageById("ua", false).isPresent());
         assertFalse(crowdinProject.findLanguageById("ua", true).isPresent());
+        assertEquals(1, crowdinProject.getIndex().getFilePaths().size());
 
         verify(httpClientMock).get(eq(getProjectUrl), any(), eq(ProjectResponseObject.class));
         verify(httpClientMock).get(eq(listSupportedLanguagesUrl), any(), eq(LanguageResponseList.class));
@@ -260,6 +271,156 @@ public class CrowdinClientTest {
         verifyNoMoreInteractions(httpClientMock);
     }
 
+    @Test
+    public void testDownloadProjectFullLoadsListingsOnAccess() {
+        Project project = new Project() {{
+                setId(projectId);
+                setTargetLanguages(Arrays.asList(LanguageBuilder.ENG.build()));
+            }};
+        ProjectResponseObject projectResponse = new ProjectResponseObject() {{
+                setData(project);
+            }};
+        LanguageResponseList langsResponse = new LanguageResponseList() {{
+                setData(new ArrayList<>());
+            }};
+        List<BranchResponseObject> branches = Arrays.asList(
+            new BranchResponseObject() {{
+                    setData(new Branch());
+                }}
+        );
+        BranchResponseList branchesResponse = new BranchResponseList() {{
+                setData(branches);
+            }};
+        when(httpClientMock.get(eq(getProjectUrl), any(), eq(ProjectResponseObject.class)))
+            .thenReturn(projectResponse);
+        when(httpClientMock.get(eq(listSupportedLanguagesUrl), any(), eq(LanguageResponseList.class)))
+            .thenReturn(langsResponse);
+        when(httpClientMock.get(eq(listBranchesUrl), any(), eq(BranchResponseList.class)))
+            .thenReturn(branchesResponse);
+
+        CrowdinProjectFull crowdinProject = client.downloadFullProject();
+        assertFalse(client.getStatistics().isPresent());
+        assertEquals(1, crowdinProject.getBranches().size());
+        assertEquals(1, crowdinProject.getBranches().size());
+        assertTrue(client.getStatistics().isPresent());
+        assertTrue(client.getStatistics().get().contains("branches (1)"));
+
+        verify(httpClientMock).get(eq(getProjectUrl), any(), eq(ProjectResponseObject.class));
+        verify(httpClientMock).get(eq(listSupportedLanguagesUrl), any(), eq(LanguageResponseList.class));
+        verify(httpClientMock).get(eq(listBranchesUrl), any(), eq(BranchResponseList.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
+    @Test
+    public void testDownloadProjectFullWrapsListingFailure() {
+        Project project = new Project() {{
+                setId(projectId);
+                setTargetLanguages(Arrays.asList(LanguageBuilder.ENG.build()));
+            }};
+        ProjectResponseObject projectResponse = new ProjectResponseObject() {{
+                setData(project);
+            }};
+        LanguageResponseList langsResponse = new LanguageResponseList() {{
+                setData(new ArrayList<>());
+            }};
+        when(httpClientMock.get(eq(getProjectUrl), any(), eq(ProjectResponseObject.class)))
+            .thenReturn(projectResponse);
+        when(httpClientMock.get(eq(listSupportedLanguagesUrl), any(), eq(LanguageResponseList.class)))
+            .thenReturn(langsResponse);
+        when(httpClientMock.get(eq(listBranchesUrl), any(), eq(BranchResponseList.class)))
+            .thenThrow(new RuntimeException("Whoops"));
+
+        CrowdinProjectFull crowdinProject = client.downloadFullProject();
+        RuntimeException e = assertThrows(RuntimeException.class, crowdinProject::getBranches);
+
+        assertEquals(RESOURCE_BUNDLE.getString("error.collect_project_info"), e.getMessage());
+        verify(httpClientMock).get(eq(getProjectUrl), any(), eq(ProjectResponseObject.class));
+        verify(httpClientMock).get(eq(listSupportedLanguagesUrl), any(), eq(LanguageResponseList.class));
+        verify(httpClientMock).get(eq(listBranchesUrl), any(), eq(BranchResponseList.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
+    @Test
+    public void testDownloadProjectFullForNonexistentBranch() {
+        Project project = new Project() {{
+                setId(projectId);
+                setTargetLanguages(Arrays.asList(LanguageBuilder.ENG.build()));
+            }};
+        ProjectResponseObject projectResponse = new ProjectResponseObject() {{
+                setData(project);
+            }};
+        LanguageResponseList langsResponse = new LanguageResponseList() {{
+                setData(new ArrayList<>());
+            }};
+        BranchResponseList branchesResponse = new BranchResponseList() {{
+                setData(new ArrayList<>());
+            }};
+        when(httpClientMock.get(eq(getProjectUrl), any(), eq(ProjectResponseObject.class)))
+            .thenReturn(projectResponse);
+        when(httpClientMock.get(eq(listSupportedLanguagesUrl), any(), eq(LanguageResponseList.class)))
+            .thenReturn(langsResponse);
+        when(httpClientMock.get(eq(listBranchesUrl), any(), eq(BranchResponseList.class)))
+            .thenReturn(branchesResponse);
+
+        CrowdinProjectFull crowdinProject = client.downloadFullProject("nonexistentBranch");
+        assertTrue(crowdinProject.getFiles().isEmpty());
+        assertTrue(crowdinProject.getDirectories().isEmpty());
+
+        verify(httpClientMock).get(eq(getProjectUrl), any(), eq(ProjectResponseObject.class));
+        verify(httpClientMock).get(eq(listSupportedLanguagesUrl), any(), eq(LanguageResponseList.class));
+        verify(httpClientMock).get(eq(listBranchesUrl), any(), eq(BranchResponseList.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
+    @Test
+    public void testDownloadProjectFullListsBranchRecursively() {
+        Project project = new Project() {{
+                setId(projectId);
+                setTargetLanguages(Arrays.asList(LanguageBuilder.ENG.build()));
+            }};
+        ProjectResponseObject projectResponse = new ProjectResponseObject() {{
+                setData(project);
+            }};
+        LanguageResponseList langsResponse = new LanguageResponseList() {{
+                setData(new ArrayList<>());
+            }};
+        BranchResponseList branchesResponse = new BranchResponseList() {{
+                setData(Arrays.asList(new BranchResponseObject() {{
+                        setData(BranchBuilder.standard().setProjectId(projectId).setIdentifiers("main", 5L).build());
+                    }}));
+            }};
+        DirectoryResponseList topLevelDirectories = new DirectoryResponseList() {{
+                setData(Arrays.asList(new DirectoryResponseObject() {{
+                        setData(DirectoryBuilder.standard().setProjectId(projectId).setIdentifiers("sub", 7L, null, 5L).build());
+                    }}));
+            }};
+        FileInfoResponseList nestedFiles = new FileInfoResponseList() {{
+                setData(Arrays.asList(new FileResponseObject() {{
+                        setData(FileBuilder.standard().setProjectId(projectId).setIdentifiers("nested.po", "gettext", 9L, 7L, null).build());
+                    }}));
+            }};
+        FileInfoResponseList noFiles = new FileInfoResponseList() {{
+                setData(new ArrayList<>());
+            }};
+        when(httpClientMock.get(eq(getProjectUrl), any(), eq(ProjectResponseObject.class)))
+            .thenReturn(projectResponse);
+        when(httpClientMock.get(eq(listSupportedLanguagesUrl), any(), eq(LanguageResponseList.class)))
+            .thenReturn(langsResponse);
+        when(httpClientMock.get(eq(listBranchesUrl), any(), eq(BranchResponseList.class)))
+            .thenReturn(branchesResponse);
+        when(httpClientMock.get(eq(listDirectoriesUrl), any(), eq(DirectoryResponseList.class)))
+            .thenReturn(topLevelDirectories);
+//        like the API, a branch listing returns nested files only with the recursion flag
+        when(httpClientMock.get(eq(listFilesUrl), any(), eq(FileInfoResponseList.class)))
+            .thenAnswer(invocation -> hasUrlParam(invocation.getArgument(1), "recursion") ? nestedFiles : noFiles);
+
+        CrowdinProjectFull crowdinProject = client.downloadFullProject("main");
+
+        assertTrue(crowdinProject.getIndex().getFilePaths().containsKey(Utils.normalizePath("main/sub/nested.po")));
+        verify(httpClientMock).get(eq(listFilesUrl), argThat(config -> hasUrlParam(config, "recursion")), eq(FileInfoResponseList.class));
+        verify(httpClientMock).get(eq(listDirectoriesUrl), argThat(config -> hasUrlParam(config, "recursion")), eq(DirectoryResponseList.class));
+    }
+
     @Test
     public void testDownloadProjectWithLangs() {
         Project project = new Project() {{
@@ -573,6 +734,24 @@ public class CrowdinClientTest {
         verifyNoMoreInteractions(httpClientMock);
     }
 
+    @Test
+    public void testAddSourceStrings() {
+        SourceStringResponseObject response = new SourceStringResponseObject() {{
+                setData(new SourceString());
+            }};
+        when(httpClientMock.post(eq(addSourceStringUrl), any(), any(), eq(SourceStringResponseObject.class)))
+            .thenReturn(response);
+        List<AddSourceStringRequest> requests =
+            Arrays.asList(new AddSourceStringRequest(), new AddSourceStringRequest(), new AddSourceStringRequest());
+
+        List<BatchResult<SourceString>> sourceStrings = client.addSourceStrings(requests);
+
+        assertEquals(3, sourceStrings.size());
+        assertTrue(sourceStrings.stream().allMatch(BatchResult::isSuccess));
+        verify(httpClientMock, times(3)).post(eq(addSourceStringUrl), any(), any(), eq(SourceStringResponseObject.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
     @Test
     public void testListSourceString() {
         SourceStringResponseList response = new SourceStringResponseList() {{
@@ -587,6 +766,74 @@ public class CrowdinClientTest {
         verifyNoMoreInteractions(httpClientMock);
     }
 
+    @Test
+    public void testGetSourceString() {
+        SourceStringResponseObject response = new SourceStringResponseObject() {{
+                setData(new SourceString());
+            }};
+        when(httpClientMock.get(eq(getSourceStringUrl), any(), eq(SourceStringResponseObject.class)))
+            .thenReturn(response);
+
+        assertTrue(client.getSourceString(stringId).isPresent());
+
+        verify(httpClientMock).get(eq(getSourceStringUrl), any(), eq(SourceStringResponseObject.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
+    @Test
+    public void testGetSourceStringNotFound() {
+        when(httpClientMock.get(eq(getSourceStringUrl), any(), eq(SourceStringResponseObject.class)))
+            .thenThrow(HttpExceptionBuilder.build("404", "String Not Found"));
+
+        assertFalse(client.getSourceString(stringId).isPresent());
+
+        verify(httpClientMock).get(eq(getSourceStringUrl), any(), eq(SourceStringResponseObject.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
+    @Test
+    public void testGetSourceStringRethrowsOtherErrors() {
+        when(httpClientMock.get(eq(getSourceStringUrl), any(), eq(SourceStringResponseObject.class)))
+            .thenThrow(HttpExceptionBuilder.build("403", "Forbidden"));
+
+        assertThrows(RuntimeException.class, () -> client.getSourceString(stringId));
+
+        verify(httpClientMock).get(eq(getSourceStringUrl), any(), eq(SourceStringResponseObject.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
+    @Test
+    public void testGetSourceStrings() {
+        SourceStringResponseObject response = new SourceStringResponseObject() {{
+                setData(new SourceString());
+            }};
+        when(httpClientMock.get(eq(getSourceStringUrl), any(), eq(SourceStringResponseObject.class)))
+            .thenReturn(response);
+
+        List<BatchResult<Optional<SourceString>>> sourceStrings = client.getSourceStrings(Arrays.asList(stringId, stringId));
+
+        assertEquals(2, sourceStrings.size());
+        assertTrue(sourceStrings.stream().allMatch(result -> result.isSuccess() && result.getResult().isPresent()));
+        verify(httpClientMock, times(2)).get(eq(getSourceStringUrl), any(), eq(SourceStringResponseObject.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
+    @Test
+    public void testStreamSourceString() {
+        SourceStringResponseList response = new SourceStringResponseList() {{
+                setData(new ArrayList<>());
+            }};
+        when(httpClientMock.get(eq(listSourceStringUrl), any(), eq(SourceStringResponseList.class)))
+            .thenReturn(response);
+
+        Stream<SourceString> sourceStrings = client.streamSourceString(fileId, "FiLtEr");
+        verifyNoMoreInteractions(httpClientMock);
+
+        assertEquals(0, sourceStrings.count());
+        verify(httpClientMock).get(eq(listSourceStringUrl), any(), eq(SourceStringResponseList.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
     @Test
     public void testDeleteSourceString() {
         client.deleteSourceString(stringId);
@@ -595,6 +842,24 @@ public class CrowdinClientTest {
         verifyNoMoreInteractions(httpClientMock);
     }
 
+    @Test
+    public void testDeleteSourceStrings_returnsFailures() {
+        String otherStringUrl = String.format("%s/projects/%d/strings/%d", url, projectId, stringId + 1);
+        Mockito.doThrow(HttpExceptionBuilder.build("unknown", "unknown exception"))
+            .when(httpClientMock)
+            .delete(eq(deleteSourceStringUrl), any(), eq(Void.class));
+
+        List<BatchResult<Long>> results = client.deleteSourceStrings(Arrays.asList(stringId, stringId + 1));
+
+        assertFalse(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(Long.valueOf(stringId + 1), results.get(1).getResult());
+
+        verify(httpClientMock).delete(eq(deleteSourceStringUrl), any(), eq(Void.class));
+        verify(httpClientMock).delete(eq(otherStringUrl), any(), eq(Void.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
     @Test
     public void testEditSourceString() {
         List<PatchRequest> request = new ArrayList<>();
@@ -757,6 +1022,21 @@ public class CrowdinClientTest {
         verifyNoMoreInteractions(httpClientMock);
     }
 
+    @Test
+    public void testStreamTermsAsync() {
+        TermResponseList response = new TermResponseList() {{
+                setData(new ArrayList<>());
+            }};
+        when(httpClientMock.get(eq(listTermsUrl), any(), eq(TermResponseList.class)))
+            .thenReturn(response);
+
+        client.streamTermsAsync(glossaryId, 10).join().forEach(term -> { });
+
+        verify(httpClientMock).get(eq(listTermsUrl), argThat(config -> Integer.valueOf(10).equals(getUrlParam(config, "limit"))),
+            eq(TermResponseList.class));
+        verifyNoMoreInteractions(httpClientMock);
+    }
+
     @Test
     public void testListTms() {
         TranslationMemoryResponseList response = new TranslationMemoryResponseList() {{
@@ -923,4 +1203,13 @@ public class CrowdinClientTest {
         verify(httpClientMock).delete(eq(deleteSourceStringUrl), any(), eq(Void.class));
         verifyNoMoreInteractions(httpClientMock);
     }
+
+    private static boolean hasUrlParam(HttpRequestConfig config, String name) {
+        return getUrlParam(config, name) != null;
+    }
+
+    private static Object getUrlParam(HttpRequestConfig config, String name) {
+        Object value = config.getUrlParams().get(name);
+        return (value instanceof Optional) ? ((Optional<?>) value).orElse(null) : value;
+    }
 }
@@ -6,6 +6,9 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class LanguageMappingTest {
@@ -57,4 +60,25 @@ public class LanguageMappingTest {
         assertTrue(result.containsValue("uk", "three_letters_code"));
         assertEquals(CONFIG_FILE_LANGUAGE_MAPPING.get("name").get("uk"), result.getValue("uk", "name"));
     }
+
+    @Test
+    public void testPopulateKeepsSourcesUnchanged() {
+        LanguageMapping serverLanguageMapping = LanguageMapping.fromServerLanguageMapping(SERVER_LANGUAGE_MAPPING);
+        LanguageMapping configFileLanguageMapping = LanguageMapping.fromConfigFileLanguageMapping(CONFIG_FILE_LANGUAGE_MAPPING);
+        LanguageMapping.populate(configFileLanguageMapping, serverLanguageMapping);
+
+        assertEquals(SERVER_LANGUAGE_MAPPING.get("uk").get("name"), serverLanguageMapping.getValue("uk", "name"));
+        assertFalse(serverLanguageMapping.containsValue("uk", "three_letters_code"));
+        assertNull(serverLanguageMapping.getValue("de", "name"));
+    }
+
+    @Test
+    public void testEqualsByValue() {
+        LanguageMapping first = LanguageMapping.fromServerLanguageMapping(SERVER_LANGUAGE_MAPPING);
+        LanguageMapping second = LanguageMapping.fromServerLanguageMapping(new HashMap<>(SERVER_LANGUAGE_MAPPING));
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, LanguageMapping.fromConfigFileLanguageMapping(CONFIG_FILE_LANGUAGE_MAPPING));
+    }
 }
@@ -0,0 +1,178 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.cli.utils.file.FileChannelInputStream;
+import com.crowdin.client.core.http.HttpClient;
+import com.crowdin.client.core.http.HttpRequestConfig;
+import com.crowdin.client.core.http.exceptions.HttpException;
+import com.crowdin.client.core.http.impl.json.JacksonJsonTransformer;
+import com.crowdin.client.core.model.ClientConfig;
+import com.crowdin.client.core.model.Credentials;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class PooledHttpTransportTest {
+
+    private HttpServer server;
+    private String url;
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> contentLengths = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/", exchange -> {
+            String body = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+            requests.add(String.format("%s %s %s %s", exchange.getRequestMethod(), exchange.getRequestURI(),
+                exchange.getRequestHeaders().getFirst("Authorization"), body));
+            contentLengths.add(exchange.getRequestHeaders().getFirst("Content-Length"));
+            boolean notFound = exchange.getRequestURI().getPath().endsWith("/missing");
+            boolean list = exchange.getRequestURI().getPath().endsWith("/strings");
+            byte[] response = (notFound
+                ? "{\"error\":{\"code\":404,\"message\":\"Project Not Found\"}}"
+                : list
+                ? "{\"data\":[]}"
+                : "{\"data\":{\"id\":42}}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(notFound ? 404 : 200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testRequest() {
+        HttpClient httpClient = new PooledHttpTransport(2, 30, 5, 5)
+            .buildHttpClient("VeryBigToken", "crowdin-cli", new JacksonJsonTransformer(), null, null)
+            .get();
+        Map<String, Optional<Object>> urlParams = new LinkedHashMap<>();
+        urlParams.put("limit", Optional.of(500));
+        urlParams.put("filter", Optional.empty());
+
+        Map<?, ?> response = httpClient.get(url + "/projects", config(urlParams), Map.class);
+        Void empty = httpClient.post(url + "/projects", Collections.singletonMap("name", "test"), config(new HashMap<>()), Void.class);
+
+        assertEquals(Collections.singletonMap("id", 42), response.get("data"));
+        assertNull(empty);
+        assertEquals("GET /projects?limit=500 Bearer VeryBigToken ", requests.get(0));
+        assertEquals("POST /projects Bearer VeryBigToken {\"name\":\"test\"}", requests.get(1));
+    }
+
+    @Test
+    public void testFilterIsEncodedOnce() {
+        HttpClient httpClient = new PooledHttpTransport(2, 30, 5, 5)
+            .buildHttpClient("VeryBigToken", "crowdin-cli", new JacksonJsonTransformer(), null, null)
+            .get();
+        ClientConfig clientConfig = ClientConfig.builder()
+            .jsonTransformer(new JacksonJsonTransformer())
+            .httpClient(httpClient)
+            .build();
+        Client client = new CrowdinClient(
+            new com.crowdin.client.Client(new Credentials("VeryBigToken", "TestingCompany", url), clientConfig), 42);
+
+        client.listSourceString(null, "hello world+1 & #2");
+
+        assertTrue(requests.get(0).startsWith("GET /api/v2/projects/42/strings?"), requests.get(0));
+        assertTrue(requests.get(0).contains("filter=hello+world%2B1+%26+%232"), requests.get(0));
+    }
+
+    @Test
+    public void testInvalidSettingsThrow() {
+        assertEquals(PooledHttpTransport.DEFAULT_POOL_SIZE, PooledHttpTransport.intFromValue("CROWDIN_HTTP_POOL_SIZE", null, 10, 1));
+        assertEquals(4, PooledHttpTransport.intFromValue("CROWDIN_HTTP_POOL_SIZE", " 4 ", 10, 1));
+        assertThrows(RuntimeException.class, () -> PooledHttpTransport.intFromValue("CROWDIN_HTTP_POOL_SIZE", "ten", 10, 1));
+        assertThrows(RuntimeException.class, () -> PooledHttpTransport.intFromValue("CROWDIN_HTTP_POOL_SIZE", "0", 10, 1));
+    }
+
+    @Test
+    public void testFileUploadHasContentLength() throws IOException {
+        HttpClient httpClient = new PooledHttpTransport(2, 30, 5, 5)
+            .buildHttpClient("VeryBigToken", "crowdin-cli", new JacksonJsonTransformer(), null, null)
+            .get();
+        File file = Files.createTempFile("upload", ".txt").toFile();
+        file.deleteOnExit();
+        Files.write(file.toPath(), "file content".getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannelInputStream content = new FileChannelInputStream(file)) {
+            httpClient.post(url + "/storages", content, config(new HashMap<>()), Map.class);
+        }
+
+        assertEquals("POST /storages Bearer VeryBigToken file content", requests.get(0));
+        assertEquals("12", contentLengths.get(0));
+    }
+
+    @Test
+    public void testErrorResponse() {
+        HttpClient httpClient = new PooledHttpTransport(2, 30, 5, 5)
+            .buildHttpClient("VeryBigToken", "crowdin-cli", new JacksonJsonTransformer(), null, null)
+            .get();
+
+        HttpException exception = assertThrows(HttpException.class,
+            () -> httpClient.get(url + "/missing", config(new HashMap<>()), Map.class));
+
+        assertEquals("404", exception.getError().code);
+        assertEquals("Project Not Found", exception.getError().message);
+    }
+
+    @Test
+    public void testConnectionsAreReused() throws Exception {
+        PooledHttpTransport transport = new PooledHttpTransport(4, 30, 5, 5);
+        HttpClient httpClient = transport
+            .buildHttpClient("VeryBigToken", "crowdin-cli", new JacksonJsonTransformer(), null, null)
+            .get();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            results.add(executor.submit(() -> httpClient.get(url + "/projects", config(new HashMap<>()), Map.class)));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        assertEquals(40, requests.size());
+        assertEquals(40, transport.getRequests());
+        assertTrue(transport.getConnectionsOpened() <= 4);
+    }
+
+    private static HttpRequestConfig config(Map<String, Optional<Object>> urlParams) {
+        HttpRequestConfig config = mock(HttpRequestConfig.class);
+        doReturn(urlParams).when(config).getUrlParams();
+        doReturn(new HashMap<>()).when(config).getHeaders();
+        return config;
+    }
+}
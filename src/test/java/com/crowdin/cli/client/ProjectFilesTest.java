@@ -0,0 +1,59 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.cli.client.models.FileBuilder;
+import com.crowdin.client.sourcefiles.model.File;
+import com.crowdin.client.sourcefiles.model.FileInfo;
+import com.crowdin.client.sourcefiles.model.GeneralFileExportOptions;
+import com.crowdin.client.sourcefiles.model.PropertyFileExportOptions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProjectFilesTest {
+
+    @Test
+    public void testFilesAreRebuiltWithUsedFields() {
+        File file = FileBuilder.standard().setProjectId(42L).setIdentifiers("first.po", "gettext", 101L, 11L, 1L).build();
+        file.setExportOptions(new PropertyFileExportOptions() {{
+                setExportPattern("/%locale%/first.po");
+            }}
+        );
+        ProjectFiles files = new ProjectFiles();
+        files.addFile(file);
+        files.addFile(FileBuilder.standard().setProjectId(42L).setIdentifiers("second.po", "gettext", 102L, null, null).build());
+
+        FileInfo first = files.get(0);
+        FileInfo second = files.get(1);
+
+        assertTrue(files.isManagerFiles());
+        assertTrue(first instanceof File);
+        assertEquals(101L, first.getId());
+        assertEquals("first.po", first.getName());
+        assertEquals(11L, first.getDirectoryId());
+        assertEquals(1L, first.getBranchId());
+        assertEquals("/%locale%/first.po", ((GeneralFileExportOptions) ((File) first).getExportOptions()).getExportPattern());
+        assertNull(((File) second).getExportOptions());
+        assertNull(second.getDirectoryId());
+    }
+
+    @Test
+    public void testNamesAreInterned() {
+        ProjectFiles files = new ProjectFiles();
+        FileInfo file1 = new FileInfo();
+        file1.setId(101L);
+        file1.setName(new String("strings.xml"));
+        FileInfo file2 = new FileInfo();
+        file2.setId(102L);
+        file2.setName(new String("strings.xml"));
+        files.addFile(file1);
+        files.addFile(file2);
+
+        assertFalse(files.isManagerFiles());
+        assertFalse(files.get(0) instanceof File);
+        assertSame(files.getName(0), files.getName(1));
+    }
+}
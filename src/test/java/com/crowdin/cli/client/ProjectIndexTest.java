@@ -0,0 +1,81 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.cli.client.models.BranchBuilder;
+import com.crowdin.cli.utils.Utils;
+import com.crowdin.client.sourcefiles.model.Directory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProjectIndexTest {
+
+    private static final long PROJECT_ID = 42;
+
+    @Test
+    public void testPaths() {
+        CrowdinProjectFull project = ProjectBuilder.emptyProject(PROJECT_ID)
+            .addBranches(1L, "main", "dev")
+            .addDirectory("folder", 101L, null, null)
+            .addDirectory("inner", 102L, 101L, null)
+            .addDirectory("deep", 103L, 102L, null)
+            .addDirectory("branched", 104L, null, 2L)
+            .addFile("first.po", "gettext", 201L, null, null)
+            .addFile("second.po", "gettext", 202L, 103L, null)
+            .addFile("third.po", "gettext", 203L, 104L, 2L)
+            .addFile("fourth.po", "gettext", 204L, null, 1L)
+            .build();
+        ProjectIndex index = project.getIndex();
+
+        assertEquals(Utils.normalizePath("folder/inner/deep/"), index.getDirectoryPaths().get(103L));
+        assertEquals(Utils.normalizePath("branched/"), index.getDirectoryPaths().get(104L));
+        assertEquals(Utils.normalizePath("dev/branched/"), index.getDirectoryPathsWithBranches().get(104L));
+        assertEquals(Utils.normalizePath("main/"), index.getDirectoryPathsWithBranches().get(1L));
+        assertEquals(new HashSet<>(Arrays.asList(
+            "first.po",
+            Utils.normalizePath("folder/inner/deep/second.po"),
+            Utils.normalizePath("dev/branched/third.po"),
+            Utils.normalizePath("main/fourth.po"))), index.getFilePaths().keySet());
+        assertEquals(203L, index.getFilePaths().get(Utils.normalizePath("dev/branched/third.po")).getId());
+    }
+
+    @Test
+    public void testBranchesAndDirectories() {
+        CrowdinProjectFull project = ProjectBuilder.emptyProject(PROJECT_ID)
+            .addBranches(1L, "main", "dev")
+            .addDirectory("folder", 101L, null, null)
+            .addDirectory("inner1", 102L, 101L, null)
+            .addDirectory("inner2", 103L, 101L, null)
+            .build();
+        ProjectIndex index = project.getIndex();
+
+        assertEquals(2L, index.findBranchByName("dev").get().getId());
+        assertFalse(index.findBranchByName("unknown").isPresent());
+        assertEquals(new HashSet<>(Arrays.asList(102L, 103L)),
+            index.getChildDirectories(101L).stream().map(Directory::getId).collect(Collectors.toSet()));
+        assertEquals(1, index.getChildDirectories(null).size());
+        assertTrue(index.getChildDirectories(103L).isEmpty());
+    }
+
+    @Test
+    public void testIndexIsRebuiltAfterNewBranch() {
+        CrowdinProjectFull project = ProjectBuilder.emptyProject(PROJECT_ID)
+            .addBranches(1L, "main")
+            .build();
+        ProjectIndex index = project.getIndex();
+
+        assertSame(index, project.getIndex());
+        project.addBranchToLocalList(BranchBuilder.standard().setProjectId(PROJECT_ID).setIdentifiers("dev", 2L).build());
+
+        assertNotSame(index, project.getIndex());
+        assertTrue(project.findBranchByName("dev").isPresent());
+        assertEquals(Utils.normalizePath("dev/"), project.getIndex().getDirectoryPathsWithBranches().get(2L));
+    }
+}
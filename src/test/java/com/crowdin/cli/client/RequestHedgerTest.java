@@ -0,0 +1,132 @@
+package com.crowdin.cli.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RequestHedgerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CompletableFuture<Void> timer = new CompletableFuture<>();
+    private final AtomicInteger timerCalls = new AtomicInteger();
+
+    @Test
+    public void testNoHedgingWithoutSamples() {
+        RequestHedger hedger = new RequestHedger();
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("ok", hedger.execute(() -> {
+            calls.incrementAndGet();
+            return "ok";
+        }));
+        assertEquals(1, calls.get());
+        assertEquals(0, hedger.getHedgesFired());
+        assertEquals(0, hedger.getHedgesWon());
+    }
+
+    @Test
+    public void testHedgeWinsOverSlowRequest() {
+        RequestHedger hedger = this.warmedUp();
+        CountDownLatch releasePrimary = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                timer.complete(null);
+                await(releasePrimary);
+                return "primary";
+            }
+            return "hedge";
+        });
+        releasePrimary.countDown();
+
+        assertEquals("hedge", result);
+        assertEquals(2, calls.get());
+        assertEquals(1, timerCalls.get());
+        assertEquals(1, hedger.getHedgesFired());
+        assertEquals(1, hedger.getHedgesWon());
+    }
+
+    @Test
+    public void testNoHedgeForFastRequest() {
+        RequestHedger hedger = this.warmedUp();
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("fast", hedger.execute(() -> {
+            calls.incrementAndGet();
+            return "fast";
+        }));
+
+        assertEquals(1, calls.get());
+        assertEquals(0, hedger.getHedgesFired());
+    }
+
+    @Test
+    public void testBudgetLimitsHedges() {
+        RequestHedger hedger = this.warmedUp();
+        CountDownLatch releasePrimary = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        hedger.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                timer.complete(null);
+                await(releasePrimary);
+                return "primary";
+            }
+            return "hedge";
+        });
+        releasePrimary.countDown();
+        for (int i = 0; i < 2; i++) {
+            hedger.execute(() -> {
+                calls.incrementAndGet();
+                return "slow";
+            });
+        }
+
+        assertEquals(1, hedger.getHedgesFired());
+        assertEquals(1, timerCalls.get());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testErrorIsRethrown() {
+        RequestHedger hedger = this.warmedUp();
+
+        assertThrows(IllegalStateException.class, () -> hedger.execute(() -> {
+            throw new IllegalStateException("Whoops");
+        }));
+        assertEquals(0, hedger.getHedgesFired());
+    }
+
+    /**
+     * @return hedger that has seen 10 requests of 20 ms each. Its timer completes only when a test completes it
+     */
+    private RequestHedger warmedUp() {
+        RequestHedger hedger = new RequestHedger(clock::get, millis -> {
+            timerCalls.incrementAndGet();
+            return timer;
+        });
+        for (int i = 0; i < 10; i++) {
+            hedger.execute(() -> {
+                clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(20));
+                return "fast";
+            });
+        }
+        return hedger;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
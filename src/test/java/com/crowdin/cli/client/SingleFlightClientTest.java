@@ -0,0 +1,133 @@
+package com.crowdin.cli.client;
+
+import com.crowdin.cli.client.models.DirectoryBuilder;
+import com.crowdin.client.glossaries.model.Glossary;
+import com.crowdin.client.sourcefiles.model.AddDirectoryRequest;
+import com.crowdin.client.sourcefiles.model.Directory;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class SingleFlightClientTest {
+
+    private static final long PROJECT_ID = 42L;
+
+    @Test
+    public void testConcurrentAddDirectoryIsCoalesced() throws Exception {
+        Client clientMock = mock(Client.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Directory directory = DirectoryBuilder.standard().setProjectId(PROJECT_ID)
+            .setIdentifiers("folder", 101L, null, null).build();
+        when(clientMock.addDirectory(any()))
+            .thenAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return directory;
+            });
+        Client client = new SingleFlightClient(clientMock);
+
+        List<FutureTask<Directory>> results = new ArrayList<>();
+        results.add(start(() -> addFolder(client)).getKey());
+        started.await(5, TimeUnit.SECONDS);
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Map.Entry<FutureTask<Directory>, Thread> waiter = start(() -> addFolder(client));
+            results.add(waiter.getKey());
+            waiters.add(waiter.getValue());
+        }
+        for (Thread waiter : waiters) {
+            awaitBlocked(waiter);
+        }
+        release.countDown();
+
+        for (FutureTask<Directory> result : results) {
+            assertEquals(101L, result.get(5, TimeUnit.SECONDS).getId());
+        }
+        assertEquals(101L, addFolder(client).getId());
+        verify(clientMock).addDirectory(any());
+        verifyNoMoreInteractions(clientMock);
+    }
+
+    @Test
+    public void testFailedAddDirectoryIsNotRemembered() throws ResponseException {
+        Client clientMock = mock(Client.class);
+        when(clientMock.addDirectory(any()))
+            .thenThrow(new WaitResponseException())
+            .thenReturn(DirectoryBuilder.standard().setProjectId(PROJECT_ID)
+                .setIdentifiers("folder", 101L, null, null).build());
+        Client client = new SingleFlightClient(clientMock);
+
+        assertThrows(WaitResponseException.class, () -> client.addDirectory(folderRequest()));
+        assertEquals(101L, client.addDirectory(folderRequest()).getId());
+        verify(clientMock, times(2)).addDirectory(any());
+        verifyNoMoreInteractions(clientMock);
+    }
+
+    @Test
+    public void testSequentialGetGlossaryIsNotCached() {
+        Client clientMock = mock(Client.class);
+        when(clientMock.getGlossary(eq(42L)))
+            .thenReturn(Optional.of(new Glossary()));
+        Client client = new SingleFlightClient(clientMock);
+
+        client.getGlossary(42L);
+        client.getGlossary(42L);
+
+        verify(clientMock, times(2)).getGlossary(eq(42L));
+        verifyNoMoreInteractions(clientMock);
+    }
+
+    private static <T> Map.Entry<FutureTask<T>, Thread> start(Callable<T> call) {
+        FutureTask<T> task = new FutureTask<>(call);
+        Thread thread = new Thread(task);
+        thread.start();
+        return new AbstractMap.SimpleEntry<>(task, thread);
+    }
+
+    /**
+     * Waits until the thread blocks: either on the call in flight, or in the mock if the call wasn't coalesced,
+     * which the verification of the mock then catches
+     */
+    private static void awaitBlocked(Thread thread) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Thread '" + thread.getName() + "' didn't block: " + thread.getState());
+            }
+            Thread.yield();
+        }
+    }
+
+    private static Directory addFolder(Client client) {
+        try {
+            return client.addDirectory(folderRequest());
+        } catch (ResponseException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static AddDirectoryRequest folderRequest() {
+        AddDirectoryRequest request = new AddDirectoryRequest();
+        request.setName("folder");
+        return request;
+    }
+}
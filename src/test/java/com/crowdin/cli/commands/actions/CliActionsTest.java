@@ -68,6 +68,11 @@ public class CliActionsTest {
         assertNotNull(actions.stringList(false, false, null, null));
     }
 
+    @Test
+    public void testStringImport() {
+        assertNotNull(actions.stringImport(false, null));
+    }
+
     @Test
     public void testUploadSources() {
         assertNotNull(actions.uploadSources(null, false, false, false, false));
@@ -80,7 +85,7 @@ public class CliActionsTest {
 
     @Test
     public void testGlossaryList() {
-        assertNotNull(actions.glossaryList(false, false));
+        assertNotNull(actions.glossaryList(false, false, null));
     }
 
     @Test
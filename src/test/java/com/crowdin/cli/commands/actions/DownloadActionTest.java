@@ -66,7 +66,7 @@ public class DownloadActionTest {
         PropertiesBean pb = pbBuilder.build();
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
         CrowdinTranslationCreateProjectBuildForm buildProjectTranslationRequest = new CrowdinTranslationCreateProjectBuildForm();
         long buildId = 42L;
@@ -90,7 +90,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, false, null, null, null, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verify(client).downloadBuild(eq(buildId));
         verifyNoMoreInteractions(client);
@@ -112,7 +112,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null, "/%original_file_name%-CR-%locale%").build());
         CrowdinTranslationCreateProjectBuildForm buildProjectTranslationRequest = new CrowdinTranslationCreateProjectBuildForm();
@@ -139,7 +139,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, false, null, null, null, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verify(client).downloadBuild(eq(buildId));
         verifyNoMoreInteractions(client);
@@ -167,7 +167,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
                 .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                         .addFile("first.po", "gettext", 101L, null, null, "/%original_file_name%-CR-%locale%").build());
         CrowdinTranslationCreateProjectBuildForm buildProjectTranslationRequest = new CrowdinTranslationCreateProjectBuildForm() {{
@@ -197,7 +197,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, false, null, true, true, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verify(client).downloadBuild(eq(buildId));
         verifyNoMoreInteractions(client);
@@ -225,7 +225,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null, "/%original_file_name%-CR-%locale%").build());
         CrowdinTranslationCreateProjectBuildForm buildProjectTranslationRequest = new CrowdinTranslationCreateProjectBuildForm();
@@ -256,7 +256,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, false, null, null, null, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verify(client, times(3)).checkBuildingTranslation(eq(buildId));
         verify(client).downloadBuild(eq(buildId));
@@ -285,7 +285,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null, "/%original_file_name%-CR-%locale%")
                 .addFile("second.po", "gettext", 102L, null, null, "/%original_file_name%-CR-%locale%")
@@ -316,7 +316,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, false, null, null, null, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verify(client).downloadBuild(eq(buildId));
         verifyNoMoreInteractions(client);
@@ -344,7 +344,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null, "/%original_file_name%-CR-%locale%")
                 .addFile("second.po", "gettext", 102L, null, null, "/%original_file_name%-CR-%locale%")
@@ -376,7 +376,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, true, null, null, null, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verify(client).downloadBuild(eq(buildId));
         verifyNoMoreInteractions(client);
@@ -404,7 +404,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null, "/%original_file_name%-CR-%locale%")
                 .addFile("second.po", "gettext", 102L, null, null, "/%original_file_name%-CR-%locale%")
@@ -437,7 +437,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, true, null, null, null, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verify(client).downloadBuild(eq(buildId));
         verifyNoMoreInteractions(client);
@@ -465,7 +465,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null, "/%original_file_name%-CR-%locale%").build());
         CrowdinTranslationCreateProjectBuildForm buildProjectTranslationRequest = new CrowdinTranslationCreateProjectBuildForm();
@@ -481,7 +481,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, false, null, null, null, false);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verifyNoMoreInteractions(client);
 
@@ -498,7 +498,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenThrow(new RuntimeException());
 
         FilesInterface files = mock(FilesInterface.class);
@@ -506,7 +506,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, false, null, null, null, false);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verifyNoMoreInteractions(client);
 
         verifyNoMoreInteractions(files);
@@ -522,7 +522,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null, "/%original_file_name%-CR-%locale%").build());
         CrowdinTranslationCreateProjectBuildForm buildProjectTranslationRequest = new CrowdinTranslationCreateProjectBuildForm();
@@ -551,7 +551,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, false, null, null, null, false);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verify(client).downloadBuild(eq(buildId));
         verifyNoMoreInteractions(client);
@@ -579,7 +579,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
                 .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                         .addFile("first.po", "gettext", 101L, null, null, "/%original_file_name%-CR-%locale%").build());
         CrowdinTranslationCreateProjectBuildForm buildProjectTranslationRequest = new CrowdinTranslationCreateProjectBuildForm();
@@ -594,7 +594,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, false, null, null, null, false);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verify(client).downloadBuild(eq(buildId));
         verifyNoMoreInteractions(client);
@@ -612,7 +612,7 @@ public class DownloadActionTest {
         project.addFile("first.po");
 
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null, "/%original_file_name%-CR-%locale%").build());
         CrowdinTranslationCreateProjectBuildForm buildProjectTranslationRequest = new CrowdinTranslationCreateProjectBuildForm();
@@ -631,7 +631,7 @@ public class DownloadActionTest {
         ClientAction action = new DownloadAction(files, false, null, null, false, false, null, null, null, false);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).startBuildingTranslation(eq(buildProjectTranslationRequest));
         verify(client).downloadBuild(eq(buildId));
         verifyNoMoreInteractions(client);
@@ -12,8 +12,13 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -63,12 +68,12 @@ public class GlossaryListActionTest {
                     setText("doin'");
                 }}
         );
-        when(clientMock.listGlossaries())
-            .thenReturn(glossaries);
-        when(clientMock.listTerms(eq(42L)))
-            .thenReturn(termsFor42);
-        when(clientMock.listTerms(eq(43L)))
-            .thenReturn(termsFor43);
+        when(clientMock.streamGlossaries())
+            .thenReturn(glossaries.stream());
+        when(clientMock.streamTermsAsync(eq(42L), any()))
+            .thenReturn(CompletableFuture.completedFuture(termsFor42.stream()));
+        when(clientMock.streamTermsAsync(eq(43L), any()))
+            .thenReturn(CompletableFuture.completedFuture(termsFor43.stream()));
     }
 
     @Test
@@ -76,7 +81,7 @@ public class GlossaryListActionTest {
         ClientAction action = new GlossaryListAction(false, false);
         action.act(outputter, pb, clientMock);
 
-        verify(clientMock).listGlossaries();
+        verify(clientMock).streamGlossaries();
         verifyNoMoreInteractions(clientMock);
     }
 
@@ -85,7 +90,7 @@ public class GlossaryListActionTest {
         ClientAction action = new GlossaryListAction(true, false);
         action.act(outputter, pb, clientMock);
 
-        verify(clientMock).listGlossaries();
+        verify(clientMock).streamGlossaries();
         verifyNoMoreInteractions(clientMock);
     }
 
@@ -94,9 +99,31 @@ public class GlossaryListActionTest {
         ClientAction action = new GlossaryListAction(false, true);
         action.act(outputter, pb, clientMock);
 
-        verify(clientMock).listGlossaries();
-        verify(clientMock).listTerms(eq(42L));
-        verify(clientMock).listTerms(eq(43L));
+        verify(clientMock).streamGlossaries();
+        verify(clientMock).streamTermsAsync(eq(42L), isNull());
+        verify(clientMock).streamTermsAsync(eq(43L), isNull());
         verifyNoMoreInteractions(clientMock);
     }
+
+    @Test
+    public void test_verboseWithLimit() {
+        ClientAction action = new GlossaryListAction(false, true, 1);
+        action.act(outputter, pb, clientMock);
+
+        verify(clientMock).streamGlossaries();
+        verify(clientMock).streamTermsAsync(eq(42L), eq(1));
+        verify(clientMock).streamTermsAsync(eq(43L), eq(1));
+        verifyNoMoreInteractions(clientMock);
+    }
+
+    @Test
+    public void test_verboseTermsThrow() {
+        CompletableFuture<Stream<Term>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("Whoops"));
+        when(clientMock.streamTermsAsync(eq(43L), any()))
+            .thenReturn(failed);
+
+        ClientAction action = new GlossaryListAction(false, true);
+        assertThrows(RuntimeException.class, () -> action.act(outputter, pb, clientMock));
+    }
 }
@@ -41,14 +41,14 @@ public class ListProjectActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null).build());
 
         ClientAction action = new ListProjectAction(false, null, true, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verifyNoMoreInteractions(client);
     }
 
@@ -59,14 +59,14 @@ public class ListProjectActionTest {
                 .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject("nonexistentBranch"))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null).build());
 
         ClientAction action = new ListProjectAction(false, "nonexistentBranch", false, false);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject("nonexistentBranch");
         verifyNoMoreInteractions(client);
     }
 
@@ -77,7 +77,7 @@ public class ListProjectActionTest {
                 .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject("existentBranch"))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null)
                 .addBranches(1L, "existentBranch").build());
@@ -85,7 +85,7 @@ public class ListProjectActionTest {
         ClientAction action = new ListProjectAction(false, "existentBranch", false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject("existentBranch");
         verifyNoMoreInteractions(client);
     }
 }
@@ -1,5 +1,6 @@
 package com.crowdin.cli.commands.actions;
 
+import com.crowdin.cli.client.BatchResult;
 import com.crowdin.cli.client.Client;
 import com.crowdin.cli.client.ProjectBuilder;
 import com.crowdin.cli.client.ResponseException;
@@ -10,6 +11,7 @@ import com.crowdin.cli.properties.PropertiesBean;
 import com.crowdin.cli.properties.PropertiesBeanBuilder;
 import com.crowdin.cli.utils.Utils;
 import com.crowdin.client.sourcestrings.model.AddSourceStringRequest;
+import com.crowdin.client.sourcestrings.model.SourceString;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -20,6 +22,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -64,13 +67,19 @@ public class StringAddActionTest {
         Client client = mock(Client.class);
         when(client.downloadFullProject())
             .thenReturn(projectBuilder.build());
+        when(client.addSourceStrings(requests))
+            .thenReturn(requests.stream().map(request -> BatchResult.success(new SourceString())).collect(Collectors.toList()));
 
         ClientAction action = new StringAddAction(true, text, identifier, maxLength, context, Arrays.asList(stringFiles), hidden);
         action.act(Outputter.getDefault(), pb, client);
 
         verify(client).downloadFullProject();
-        for (AddSourceStringRequest request : requests) {
-            verify(client).addSourceString(request);
+        if (stringFiles.length > 0) {
+            verify(client).addSourceStrings(requests);
+        } else {
+            for (AddSourceStringRequest request : requests) {
+                verify(client).addSourceString(request);
+            }
         }
 
         verifyNoMoreInteractions(client);
@@ -1,5 +1,6 @@
 package com.crowdin.cli.commands.actions;
 
+import com.crowdin.cli.client.BatchResult;
 import com.crowdin.cli.client.Client;
 import com.crowdin.cli.client.ProjectBuilder;
 import com.crowdin.cli.client.ResponseException;
@@ -14,14 +15,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -41,18 +49,35 @@ public class StringDeleteActionTest {
         Client client = mock(Client.class);
         when(client.downloadFullProject())
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
-        when(client.listSourceString(null, null))
-            .thenReturn(strings);
+        when(client.getSourceStrings(ids))
+            .thenReturn(ids.stream()
+                .map(id -> BatchResult.success(strings.stream().filter(ss -> id.equals(ss.getId())).findAny()))
+                .collect(Collectors.toList()));
+        for (String text : texts) {
+            when(client.listSourceString(null, text))
+                .thenReturn(strings.stream().filter(ss -> text.equals(ss.getText())).collect(Collectors.toList()));
+        }
+        for (String identifier : identifiers) {
+            when(client.listSourceString(null, identifier))
+                .thenReturn(strings.stream().filter(ss -> identifier.equals(ss.getIdentifier())).collect(Collectors.toList()));
+        }
 
+        List<Long> deletedIds = strings.stream().map(SourceString::getId).collect(Collectors.toList());
+        when(client.deleteSourceStrings(deletedIds))
+            .thenReturn(deletedIds.stream().map(BatchResult::success).collect(Collectors.toList()));
 
         ClientAction action = new StringDeleteAction(true, ids, texts, identifiers);
         action.act(Outputter.getDefault(), pb, client);
 
         verify(client).downloadFullProject();
-        verify(client).listSourceString(null, null);
-        for (SourceString sourceString : strings) {
-            verify(client).deleteSourceString(sourceString.getId());
+        verify(client).getSourceStrings(ids);
+        for (String text : texts) {
+            verify(client).listSourceString(null, text);
         }
+        for (String identifier : identifiers) {
+            verify(client).listSourceString(null, identifier);
+        }
+        verify(client).deleteSourceStrings(deletedIds);
         verifyNoMoreInteractions(client);
     }
 
@@ -83,21 +108,81 @@ public class StringDeleteActionTest {
         Client client = mock(Client.class);
         when(client.downloadFullProject())
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
-        when(client.listSourceString(null, null))
+        when(client.getSourceStrings(ids))
+            .thenReturn(Arrays.asList(BatchResult.success(Optional.empty())));
+        when(client.listSourceString(null, "second. text"))
+            .thenReturn(strings);
+        when(client.listSourceString(null, "third. identifier"))
             .thenReturn(strings);
-
 
         ClientAction action = new StringDeleteAction(true, ids, texts, identifiers);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
         verify(client).downloadFullProject();
-        verify(client).listSourceString(null, null);
+        verify(client).getSourceStrings(ids);
+        verify(client).listSourceString(null, "second. text");
+        verify(client).listSourceString(null, "third. identifier");
         for (SourceString sourceString : strings) {
             verify(client).deleteSourceString(sourceString.getId());
         }
         verifyNoMoreInteractions(client);
     }
 
+    @Test
+    public void testStringList_reportsFailedAfterDeleted() {
+        SourceString first = SourceStringBuilder.standard().setProjectId(PROJECT_ID)
+            .setIdentifiers(801L, "first. text", "context", "first. identifier", null).build();
+        SourceString second = SourceStringBuilder.standard().setProjectId(PROJECT_ID)
+            .setIdentifiers(802L, "second. text", "context", "second. identifier", null).build();
+
+        PropertiesBeanBuilder pbBuilder = PropertiesBeanBuilder
+            .minimalBuiltPropertiesBean("*", Utils.PATH_SEPARATOR + "%original_file_name%-CR-%locale%")
+            .setBasePath(Utils.PATH_SEPARATOR);
+        PropertiesBean pb = pbBuilder.build();
+        Client client = mock(Client.class);
+        when(client.downloadFullProject())
+            .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
+        when(client.getSourceStrings(Arrays.asList(801L, 802L)))
+            .thenReturn(Arrays.asList(BatchResult.success(Optional.of(first)), BatchResult.success(Optional.of(second))));
+        when(client.deleteSourceStrings(Arrays.asList(801L, 802L)))
+            .thenReturn(Arrays.asList(BatchResult.failure(new RuntimeException("Whoops")), BatchResult.success(802L)));
+        Outputter out = mock(Outputter.class);
+
+        ClientAction action = new StringDeleteAction(true, Arrays.asList(801L, 802L), null, null);
+        RuntimeException e = assertThrows(RuntimeException.class, () -> action.act(out, pb, client));
+
+        assertEquals(RESOURCE_BUNDLE.getString("error.execution_contains_errors"), e.getMessage());
+
+        InOrder inOrder = inOrder(out);
+        inOrder.verify(out).println(contains("802"));
+        inOrder.verify(out).println(contains("Whoops"));
+        verify(client).downloadFullProject();
+        verify(client).getSourceStrings(Arrays.asList(801L, 802L));
+        verify(client).deleteSourceStrings(Arrays.asList(801L, 802L));
+        verifyNoMoreInteractions(client);
+    }
+
+    @Test
+    public void testStringList_rethrowsLookupFailure() {
+        PropertiesBeanBuilder pbBuilder = PropertiesBeanBuilder
+            .minimalBuiltPropertiesBean("*", Utils.PATH_SEPARATOR + "%original_file_name%-CR-%locale%")
+            .setBasePath(Utils.PATH_SEPARATOR);
+        PropertiesBean pb = pbBuilder.build();
+        Client client = mock(Client.class);
+        when(client.downloadFullProject())
+            .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
+        when(client.getSourceStrings(Arrays.asList(801L)))
+            .thenReturn(Arrays.asList(BatchResult.failure(new RuntimeException("Whoops"))));
+
+        ClientAction action = new StringDeleteAction(true, Arrays.asList(801L), null, null);
+        RuntimeException e = assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
+
+        assertEquals("Whoops", e.getMessage());
+        verify(client).downloadFullProject();
+        verify(client).getSourceStrings(Arrays.asList(801L));
+        verifyNoMoreInteractions(client);
+    }
+
     @Test
     public void testGetProjectThrows() throws ResponseException {
 
@@ -12,6 +12,7 @@ import com.crowdin.cli.properties.PropertiesBeanBuilder;
 import com.crowdin.cli.utils.Utils;
 import com.crowdin.client.core.model.PatchOperation;
 import com.crowdin.client.core.model.PatchRequest;
+import com.crowdin.client.sourcestrings.model.SourceString;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -20,6 +21,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -44,8 +46,11 @@ public class StringEditActionTest {
         when(client.downloadFullProject())
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.csv", "csv", 101L, null, null).build());
-        when(client.listSourceString(null, null))
-            .thenReturn(Arrays.asList(SourceStringBuilder.standard().setProjectId(42L).setIdentifiers(801L, "old", "old", "old", null).build()));
+        SourceString sourceString = SourceStringBuilder.standard().setProjectId(42L).setIdentifiers(801L, "old", "old", "old", null).build();
+        when(client.getSourceString(801L))
+            .thenReturn(Optional.of(sourceString));
+        when(client.listSourceString(null, "old"))
+            .thenReturn(Arrays.asList(sourceString));
 
         ClientAction action = new StringEditAction(true, id, identifier, newText, newContext, newMaxLength, newIsHidden);
         action.act(Outputter.getDefault(), pb, client);
@@ -64,7 +69,11 @@ public class StringEditActionTest {
                     add(RequestBuilder.patch(newIsHidden, PatchOperation.REPLACE, "/isHidden"));
                 }
             }};
-        verify(client).listSourceString(null, null);
+        if (id != null) {
+            verify(client).getSourceString(id);
+        } else {
+            verify(client).listSourceString(null, identifier);
+        }
         verify(client).editSourceString(801L, patches);
         verifyNoMoreInteractions(client);
     }
@@ -93,7 +102,6 @@ public class StringEditActionTest {
         ClientAction action = new StringEditAction(true, null, null, null, null, null, null);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
-        verify(client).listSourceString(null, null);
         verifyNoMoreInteractions(client);
     }
 }
@@ -0,0 +1,119 @@
+package com.crowdin.cli.commands.actions;
+
+import com.crowdin.cli.client.BatchResult;
+import com.crowdin.cli.client.Client;
+import com.crowdin.cli.client.ProjectBuilder;
+import com.crowdin.cli.commands.ClientAction;
+import com.crowdin.cli.commands.Outputter;
+import com.crowdin.cli.commands.functionality.RequestBuilder;
+import com.crowdin.cli.properties.PropertiesBean;
+import com.crowdin.cli.properties.PropertiesBeanBuilder;
+import com.crowdin.cli.properties.helper.TempProject;
+import com.crowdin.cli.utils.Utils;
+import com.crowdin.client.sourcestrings.model.AddSourceStringRequest;
+import com.crowdin.client.sourcestrings.model.SourceString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class StringImportActionTest {
+
+    private TempProject project;
+    private PropertiesBean pb;
+    private Client client;
+
+    @BeforeEach
+    public void beforeEach() {
+        project = new TempProject(StringImportActionTest.class);
+        pb = PropertiesBeanBuilder
+            .minimalBuiltPropertiesBean("*", Utils.PATH_SEPARATOR + "%original_file_name%-CR-%locale%")
+            .setBasePath(Utils.PATH_SEPARATOR)
+            .build();
+        client = mock(Client.class);
+        when(client.downloadFullProject())
+            .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
+                .addFile("first.csv", "csv", 801L, null, null)
+                .build());
+        when(client.addSourceStrings(anyList()))
+            .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                .map(request -> BatchResult.success(new SourceString()))
+                .collect(Collectors.toList()));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        project.delete();
+    }
+
+    @Test
+    public void testStringImportCsv() {
+        File file = project.addFile("strings.csv",
+            "text,identifier,context,maxLength,file\n"
+                + "first text,1.1,\"It's first, text\",42,first.csv\n"
+                + "\"second\n\"\"text\"\"\",1.2,,,\n");
+
+        ClientAction action = new StringImportAction(true, file);
+        action.act(Outputter.getDefault(), pb, client);
+
+        verify(client).downloadFullProject();
+        verify(client).addSourceStrings(Arrays.asList(
+            RequestBuilder.addString("first text", "1.1", 42, "It's first, text", 801L, null),
+            RequestBuilder.addString("second\n\"text\"", "1.2", null, null, null, null)));
+        verifyNoMoreInteractions(client);
+    }
+
+    @Test
+    public void testStringImportSendsBatches() {
+        StringBuilder content = new StringBuilder("text\n");
+        for (int i = 0; i <= StringImportAction.BATCH_SIZE; i++) {
+            content.append("text ").append(i).append("\n");
+        }
+        File file = project.addFile("strings.csv", content.toString());
+
+        ClientAction action = new StringImportAction(true, file);
+        action.act(Outputter.getDefault(), pb, client);
+
+        verify(client).downloadFullProject();
+        verify(client).addSourceStrings(argThat(batch -> batch.size() == StringImportAction.BATCH_SIZE));
+        verify(client).addSourceStrings(Arrays.asList(
+            RequestBuilder.addString("text " + StringImportAction.BATCH_SIZE, null, null, null, null, null)));
+        verifyNoMoreInteractions(client);
+    }
+
+    @Test
+    public void testStringImportJsonLines_reportsFailedRows() {
+        File file = project.addFile("strings.jsonl",
+            "{\"text\": \"first text\", \"identifier\": \"1.1\", \"maxLength\": 42, \"file\": \"/first.csv\"}\n"
+                + "{\"text\": \"second text\", \"file\": \"notExist.csv\"}\n"
+                + "{\"identifier\": \"1.3\"}\n"
+                + "not a json\n"
+                + "{\"text\": \"fifth text\"}\n");
+        List<AddSourceStringRequest> requests = Arrays.asList(
+            RequestBuilder.addString("first text", "1.1", 42, null, 801L, null),
+            RequestBuilder.addString("fifth text", null, null, null, null, null));
+        when(client.addSourceStrings(requests))
+            .thenReturn(Arrays.asList(BatchResult.success(new SourceString()), BatchResult.failure(new RuntimeException("Whoops"))));
+        Outputter out = mock(Outputter.class);
+
+        ClientAction action = new StringImportAction(false, file);
+        assertThrows(RuntimeException.class, () -> action.act(out, pb, client));
+
+        verify(out).println(argThat((String line) -> line.contains("5") && line.contains("Whoops")));
+        verify(client).downloadFullProject();
+        verify(client).addSourceStrings(requests);
+        verifyNoMoreInteractions(client);
+    }
+}
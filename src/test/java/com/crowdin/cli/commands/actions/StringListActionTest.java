@@ -14,7 +14,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import java.util.Arrays;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -37,19 +36,21 @@ public class StringListActionTest {
         when(client.downloadFullProject())
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.csv", "csv", 101L, null, null).build());
-        when(client.listSourceString(101L, filter))
-            .thenReturn(Arrays.asList(SourceStringBuilder.standard()
+        when(client.streamSourceString(101L, filter))
+            .thenReturn(Stream.of(SourceStringBuilder.standard()
                 .setProjectId(Long.parseLong(pb.getProjectId()))
                 .setIdentifiers(701L, "7-0-1", "seven-o-one", "7.0.1", 101L).build()));
+        when(client.streamSourceString(null, filter))
+            .thenReturn(Stream.empty());
 
         ClientAction action = new StringListAction(true, true, file, filter);
         action.act(Outputter.getDefault(), pb, client);
 
         verify(client).downloadFullProject();
         if (file != null) {
-            verify(client).listSourceString(101L, filter);
+            verify(client).streamSourceString(101L, filter);
         } else {
-            verify(client).listSourceString(null, filter);
+            verify(client).streamSourceString(null, filter);
         }
         verifyNoMoreInteractions(client);
     }
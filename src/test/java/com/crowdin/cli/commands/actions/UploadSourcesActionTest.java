@@ -57,7 +57,7 @@ public class UploadSourcesActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
         when(client.uploadStorage(eq("first.po"), any()))
             .thenReturn(1L);
@@ -65,7 +65,7 @@ public class UploadSourcesActionTest {
         ClientAction action = new UploadSourcesAction(null, false, true, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("first.po"), any());
         AddFileRequest addFileRequest = new AddFileRequest() {{
                 setName("first.po");
@@ -94,7 +94,7 @@ public class UploadSourcesActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
         when(client.uploadStorage(eq("first.po"), any()))
             .thenReturn(1L);
@@ -113,7 +113,7 @@ public class UploadSourcesActionTest {
         ClientAction action = new UploadSourcesAction(null, false, true, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("first.po"), any());
         verify(client).addDirectory(eq(addDirectoryRequest));
         verify(client).uploadStorage(eq("second.po"), any());
@@ -172,7 +172,7 @@ public class UploadSourcesActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject("newBranch"))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
         when(client.uploadStorage(eq("first.po"), any()))
             .thenReturn(1L);
@@ -187,7 +187,7 @@ public class UploadSourcesActionTest {
         ClientAction action = new UploadSourcesAction("newBranch", false, true, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject("newBranch");
         verify(client).addBranch(addBranchRequest);
         verify(client).uploadStorage(eq("first.po"), any());
         AddFileRequest addFileRequest = new AddFileRequest() {{
@@ -216,7 +216,7 @@ public class UploadSourcesActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject("newBranch"))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addBranches(201L, "newBranch").build());
         when(client.uploadStorage(eq("first.po"), any()))
@@ -225,7 +225,7 @@ public class UploadSourcesActionTest {
         ClientAction action = new UploadSourcesAction("newBranch", false, true, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject("newBranch");
         verify(client).uploadStorage(eq("first.po"), any());
         AddFileRequest addFileRequest = new AddFileRequest() {{
                 setName("first.po");
@@ -253,7 +253,7 @@ public class UploadSourcesActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
         when(client.uploadStorage(eq("first.po"), any()))
             .thenReturn(1L);
@@ -261,7 +261,7 @@ public class UploadSourcesActionTest {
         ClientAction action = new UploadSourcesAction(null, false, true, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("first.po"), any());
         AddFileRequest addFileRequest = new AddFileRequest() {{
                 setName("first.po");
@@ -290,7 +290,7 @@ public class UploadSourcesActionTest {
         PropertiesBean pb = pbBuilder.build();
         pb.setPreserveHierarchy(true);
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addDirectory("folder", 101L, null, null).build());
         when(client.uploadStorage(eq("first.po"), any()))
@@ -299,7 +299,7 @@ public class UploadSourcesActionTest {
         ClientAction action = new UploadSourcesAction(null, false, true, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("first.po"), any());
         AddFileRequest addFileRequest = new AddFileRequest() {{
                 setName("first.po");
@@ -328,7 +328,7 @@ public class UploadSourcesActionTest {
         PropertiesBean pb = pbBuilder.build();
         pb.getFiles().get(0).setDest("last.po");
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
         when(client.uploadStorage(eq("last.po"), any()))
             .thenReturn(1L);
@@ -336,7 +336,7 @@ public class UploadSourcesActionTest {
         ClientAction action = new UploadSourcesAction(null, false, true, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("last.po"), any());
         AddFileRequest addFileRequest = new AddFileRequest() {{
                 setName("last.po");
@@ -365,7 +365,7 @@ public class UploadSourcesActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 101L, null, null).build());
         when(client.uploadStorage(eq("first.po"), any()))
@@ -376,7 +376,7 @@ public class UploadSourcesActionTest {
         ClientAction action = new UploadSourcesAction(null, false, true, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("first.po"), any());
         verify(client).uploadStorage(eq("second.po"), any());
         UpdateFileRequest updateFileRequest = new UpdateFileRequest() {{
@@ -419,7 +419,7 @@ public class UploadSourcesActionTest {
         PropertiesBean pb = pbBuilder.build();
         pb.getFiles().get(0).setScheme("identifier,source_phrase,context,uk,ru,fr");
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
                 .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
         when(client.uploadStorage(eq("first.csv"), any()))
                 .thenReturn(1L);
@@ -427,7 +427,7 @@ public class UploadSourcesActionTest {
         ClientAction action = new UploadSourcesAction(null, false, true, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("first.csv"), any());
         Map<String, Integer> scheme = new HashMap<>();
         scheme.put("identifier", 0);
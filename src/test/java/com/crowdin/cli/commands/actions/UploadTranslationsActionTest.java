@@ -48,7 +48,7 @@ public class UploadTranslationsActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 301L, null, null).build());
         when(client.uploadStorage(eq("first.po-CR-uk-UA"), any()))
@@ -57,7 +57,7 @@ public class UploadTranslationsActionTest {
         ClientAction action = new UploadTranslationsAction(false, null, null, false, false, false, false);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("first.po-CR-uk-UA"), any());
         UploadTranslationsRequest uploadTranslationRequest = new UploadTranslationsRequest() {{
                 setStorageId(1L);
@@ -79,7 +79,7 @@ public class UploadTranslationsActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.po", "gettext", 301L, null, null).build());
         when(client.uploadStorage(eq("first.po-CR-uk-UA"), any()))
@@ -90,7 +90,7 @@ public class UploadTranslationsActionTest {
         ClientAction action = new UploadTranslationsAction(false, null, null, false, false, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("first.po-CR-uk-UA"), any());
         verify(client).uploadStorage(eq("first.po-CR-ru-RU"), any());
         UploadTranslationsRequest uploadTranslationRequest1 = new UploadTranslationsRequest() {{
@@ -119,13 +119,13 @@ public class UploadTranslationsActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId())).build());
 
         ClientAction action = new UploadTranslationsAction(false, null, null, false, false, false, false);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verifyNoMoreInteractions(client);
     }
 
@@ -139,7 +139,7 @@ public class UploadTranslationsActionTest {
         PropertiesBean pb = pbBuilder.build();
         pb.getFiles().get(0).setScheme("identifier,source_phrase,context,uk,ru,fr");
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("first.csv", "csv", 301L, null, null).build());
         when(client.uploadStorage(eq("first.csv-CR"), any()))
@@ -148,7 +148,7 @@ public class UploadTranslationsActionTest {
         ClientAction action = new UploadTranslationsAction(false, null, null, false, false, false, false);
         action.act(Outputter.getDefault(), pb, client);
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("first.csv-CR"), any());
         UploadTranslationsRequest uploadTranslationRequest = new UploadTranslationsRequest() {{
                 setStorageId(1L);
@@ -170,7 +170,7 @@ public class UploadTranslationsActionTest {
             .setBasePath(project.getBasePath());
         PropertiesBean pb = pbBuilder.build();
         Client client = mock(Client.class);
-        when(client.downloadFullProject())
+        when(client.downloadFullProject(null))
             .thenReturn(ProjectBuilder.emptyProject(Long.parseLong(pb.getProjectId()))
                 .addFile("second.po", "gettext", 301L, null, null).build());
         when(client.uploadStorage(eq("first.po-CR-uk-UA"), any()))
@@ -179,7 +179,7 @@ public class UploadTranslationsActionTest {
         ClientAction action = new UploadTranslationsAction(false, null, null, false, false, false, false);
         assertThrows(RuntimeException.class, () -> action.act(Outputter.getDefault(), pb, client));
 
-        verify(client).downloadFullProject();
+        verify(client).downloadFullProject(null);
         verify(client).uploadStorage(eq("first.po-CR-uk-UA"), any());
         UploadTranslationsRequest uploadTranslationRequest = new UploadTranslationsRequest() {{
                 setStorageId(1L);
@@ -0,0 +1,105 @@
+package com.crowdin.cli.commands.functionality;
+
+import com.crowdin.cli.utils.Utils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.crowdin.cli.BaseCli.RESOURCE_BUNDLE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DoubleAsteriskResolverTest {
+
+    private static final List<String> SOURCE_PATTERNS = Arrays.asList(
+        "/folder/**/*.txt", "/folder/folder2/**/*.txt", "/f1/**/*.*", "**/*.po", "/**/*", "/*/**/*.po",
+        "/en/**/*.po", "/en/**/values/strings.xml", "/en/**/values.*/?.xml", "/en/**/[ab]/*.xml",
+        "/a.b/**/c.d/*.txt", "/folder/**/sub/**/*.txt", "/folder/**/", "/folder/**", "**");
+
+    private static final List<String> TRANSLATION_PATTERNS = Arrays.asList(
+        "/f/**/%original_file_name%", "/**/%locale%/%original_file_name%", "/%two_letters_code%/**/%file_name%.po",
+        "**", "/**/**/%locale%", "/%locale%/%original_file_name%", "//**//%locale%//");
+
+    private static final List<String> SOURCE_FILES = Arrays.asList(
+        "folder/folder2/folder3/file.txt", "/folder/folder2/file.txt", "folder/file.txt", "f1/android.xml",
+        "en/here/file.po", "hmm/here/file.po", "en/res/values/strings.xml", "en/res/values-uk/a.xml",
+        "en/res/deep/a/b.xml", "a.b/x/c.d/file.txt", "aXb/x/cYd/file.txt", "folder/x/sub/y/file.txt",
+        "file.txt", "folder", "/folder/", "en//res//values//strings.xml", "en/a/[ab]/*.xml", "en/x/values.?/?.xml");
+
+    @Test
+    public void testSameResultsAsRegexImplementation() {
+        for (String sourcePattern : SOURCE_PATTERNS) {
+            DoubleAsteriskResolver resolver = new DoubleAsteriskResolver(Utils.normalizePath(sourcePattern));
+            for (String translationPattern : TRANSLATION_PATTERNS) {
+                for (String sourceFile : SOURCE_FILES) {
+                    String source = Utils.normalizePath(sourcePattern);
+                    String translation = Utils.normalizePath(translationPattern);
+                    String file = Utils.normalizePath(sourceFile);
+                    assertEquals(
+                        replaceDoubleAsteriskWithRegex(source, translation, file),
+                        resolver.replaceDoubleAsterisk(translation, file),
+                        String.format("SourcePat: %s TranslationPat: %s SourceFile: %s", source, translation, file));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRepeatedFileGivesSameResult() {
+        DoubleAsteriskResolver resolver = new DoubleAsteriskResolver(Utils.normalizePath("/folder/**/*.txt"));
+        String file = Utils.normalizePath("folder/folder2/file.txt");
+
+        String first = resolver.replaceDoubleAsterisk(Utils.normalizePath("/f/**/%original_file_name%"), file);
+        String second = resolver.replaceDoubleAsterisk(Utils.normalizePath("/f/**/%original_file_name%"), file);
+        String other = resolver.replaceDoubleAsterisk(Utils.normalizePath("/**/%locale%"), file);
+
+        assertEquals(Utils.normalizePath("/f/folder2/%original_file_name%"), first);
+        assertEquals(first, second);
+        assertEquals(Utils.normalizePath("/folder2/%locale%"), other);
+    }
+
+    /**
+     * Former implementation of {@link TranslationsUtils#replaceDoubleAsterisk(String, String, String)}
+     */
+    private static String replaceDoubleAsteriskWithRegex(String sourcePattern, String translationPattern, String sourceFile) {
+        if (StringUtils.isAnyEmpty(translationPattern, sourceFile)) {
+            throw new RuntimeException("No sources and/or translations");
+        }
+        if (!translationPattern.contains("**")) {
+            return translationPattern;
+        }
+        if (!sourcePattern.contains("**")) {
+            throw new RuntimeException(RESOURCE_BUNDLE.getString("error.config.double_asterisk"));
+        }
+        sourcePattern = StringUtils.removeStart(sourcePattern, Utils.PATH_SEPARATOR);
+        String[] sourceNodes = sourcePattern.split("\\*\\*");
+        for (int i = 0; i < sourceNodes.length; i++) {
+            if (sourceFile.contains(sourceNodes[i])) {
+                sourceFile = sourceFile.replaceFirst(Utils.regexPath(sourceNodes[i]), "");
+            } else if (sourceNodes.length - 1 == i) {
+                if (sourceNodes[i].contains(Utils.PATH_SEPARATOR)) {
+                    String[] sourceNodesTmp = sourceNodes[i].split(Utils.PATH_SEPARATOR_REGEX);
+                    for (String sourceNode : sourceNodesTmp) {
+                        String s = Utils.PATH_SEPARATOR + sourceNode + Utils.PATH_SEPARATOR;
+                        s = s.replaceAll(Utils.PATH_SEPARATOR + "+", Utils.PATH_SEPARATOR);
+                        if (sourceFile.contains(s)) {
+                            sourceFile = sourceFile.replaceFirst(s, Utils.PATH_SEPARATOR);
+                        } else if (StringUtils.indexOfAny(s, new String[]{"*", "?", "[", "]", "."}) >= 0) {
+                            if (sourceFile.lastIndexOf(Utils.PATH_SEPARATOR) > 0) {
+                                sourceFile = sourceFile.substring(0, sourceFile.lastIndexOf(Utils.PATH_SEPARATOR));
+                            } else {
+                                sourceFile = "";
+                            }
+                        }
+                    }
+                } else if (sourceFile.contains(".")) {
+                    sourceFile = "";
+                }
+            }
+        }
+        translationPattern = translationPattern.replace("**", sourceFile);
+        translationPattern = translationPattern.replaceAll(Utils.PATH_SEPARATOR_REGEX + "+", Utils.PATH_SEPARATOR_REGEX);
+        return translationPattern;
+    }
+}
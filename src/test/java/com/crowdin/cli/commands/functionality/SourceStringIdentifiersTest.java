@@ -0,0 +1,62 @@
+package com.crowdin.cli.commands.functionality;
+
+import com.crowdin.cli.WorkWithProjectTestPart;
+import com.crowdin.cli.client.Client;
+import com.crowdin.cli.client.models.SourceStringBuilder;
+import com.crowdin.client.sourcestrings.model.SourceString;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class SourceStringIdentifiersTest extends WorkWithProjectTestPart {
+
+    @Test
+    public void testCachedIdIsUsedInNextRun() {
+        File file = new File(tempProject.getBasePath(), "cache/" + SourceStringIdentifiers.FILE_NAME);
+        SourceString sourceString = SourceStringBuilder.standard().setProjectId(42L)
+            .setIdentifiers(801L, "text", "context", "key", null).build();
+        Client client = mock(Client.class);
+        when(client.listSourceString(null, "key"))
+            .thenReturn(Arrays.asList(sourceString));
+        when(client.getSourceString(801L))
+            .thenReturn(Optional.of(sourceString));
+
+        SourceStringIdentifiers first = SourceStringIdentifiers.load(file);
+        assertEquals(801L, first.find(client, "key").get().getId());
+        first.save();
+        SourceStringIdentifiers second = SourceStringIdentifiers.load(file);
+        assertEquals(801L, second.find(client, "key").get().getId());
+
+        verify(client).listSourceString(null, "key");
+        verify(client).getSourceString(801L);
+        verifyNoMoreInteractions(client);
+    }
+
+    @Test
+    public void testStaleIdIsLookedUpAgain() {
+        File file = new File(tempProject.getBasePath(), SourceStringIdentifiers.FILE_NAME);
+        SourceString renamed = SourceStringBuilder.standard().setProjectId(42L)
+            .setIdentifiers(801L, "text", "context", "other key", null).build();
+        Client client = mock(Client.class);
+        when(client.getSourceString(801L))
+            .thenReturn(Optional.of(renamed));
+
+        SourceStringIdentifiers identifiers = SourceStringIdentifiers.load(file);
+        identifiers.put("key", 801L);
+
+        assertFalse(identifiers.find(client, "key").isPresent());
+
+        verify(client).getSourceString(801L);
+        verify(client).listSourceString(null, "key");
+        verifyNoMoreInteractions(client);
+    }
+}
@@ -0,0 +1,77 @@
+package com.crowdin.cli.commands.functionality;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SourceStringsReaderTest {
+
+    @Test
+    public void testCsv() throws IOException {
+        SourceStringsReader reader = new SourceStringsReader(new StringReader(
+            "file,text,maxLength\n"
+                + "first.csv,\"multi\nline, \"\"quoted\"\"\",10\n"
+                + "\n"
+                + ",second,\n"
+                + ",third,-1\n"
+                + "fourth.csv,,5\n"), true);
+
+        SourceStringsReader.Entry first = reader.next();
+        assertEquals(2, first.getRow());
+        assertEquals("multi\nline, \"quoted\"", first.getText());
+        assertEquals("first.csv", first.getFile());
+        assertEquals(10, first.getMaxLength());
+        assertNull(first.getError());
+
+        SourceStringsReader.Entry second = reader.next();
+        assertEquals(5, second.getRow());
+        assertEquals("second", second.getText());
+        assertNull(second.getFile());
+        assertNull(second.getMaxLength());
+        assertNull(second.getIdentifier());
+
+        assertNotNull(reader.next().getError());
+        assertNotNull(reader.next().getError());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void testCsvWithoutTextColumn() {
+        SourceStringsReader reader = new SourceStringsReader(new StringReader("identifier,context\n1.1,context\n"), true);
+
+        assertThrows(RuntimeException.class, reader::next);
+    }
+
+    @Test
+    public void testJsonLines() throws IOException {
+        SourceStringsReader reader = new SourceStringsReader(new StringReader(
+            "{\"text\": \"first\", \"identifier\": \"1.1\", \"context\": \"ctx\", \"maxLength\": 42, \"file\": \"first.csv\"}\n"
+                + "\n"
+                + "{\"text\": \"second\", \"maxLength\": null}\n"
+                + "{\"text\": \"third\"\n"), false);
+
+        SourceStringsReader.Entry first = reader.next();
+        assertEquals(1, first.getRow());
+        assertEquals("first", first.getText());
+        assertEquals("1.1", first.getIdentifier());
+        assertEquals("ctx", first.getContext());
+        assertEquals(42, first.getMaxLength());
+        assertEquals("first.csv", first.getFile());
+
+        SourceStringsReader.Entry second = reader.next();
+        assertEquals(3, second.getRow());
+        assertNull(second.getMaxLength());
+        assertNull(second.getError());
+
+        SourceStringsReader.Entry third = reader.next();
+        assertEquals(4, third.getRow());
+        assertNotNull(third.getError());
+        assertNull(reader.next());
+    }
+}
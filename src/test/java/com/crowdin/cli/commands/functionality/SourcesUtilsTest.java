@@ -1,5 +1,6 @@
 package com.crowdin.cli.commands.functionality;
 
+import com.crowdin.cli.properties.helper.DirectoryIndex;
 import com.crowdin.cli.properties.helper.TempProject;
 import com.crowdin.cli.utils.PlaceholderUtilBuilder;
 import com.crowdin.cli.utils.Utils;
@@ -81,6 +82,37 @@ public class SourcesUtilsTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource
+    public void testScanAndFilterOutIgnored(String source, List<String> ignores, int expectedResult) {
+        tempProject.addFile("first.txt");
+        tempProject.addFile("first.xml");
+        tempProject.addFile("folder/second.txt");
+        tempProject.addFile("de/first.txt");
+        tempProject.addFile("en/first.txt");
+        DirectoryIndex directoryIndex = new DirectoryIndex();
+        List<File> scannedFiles = SourcesUtils.scanFiles(tempProject.getBasePath(), source, ignores, directoryIndex);
+        Stream<File> sources = SourcesUtils.filterOutIgnored(
+            tempProject.getBasePath(),
+            scannedFiles,
+            ignores,
+            PlaceholderUtilBuilder.STANDART.build(tempProject.getBasePath()),
+            directoryIndex);
+        assertEquals(expectedResult, sources.count(), "Error for source: '" + source + "' and ignores: '" + ignores + "'");
+    }
+
+    static Stream<Arguments> testScanAndFilterOutIgnored() {
+        return Stream.of(
+            arguments("**/*", Collections.EMPTY_LIST, 5),
+            arguments("**/*", Collections.singletonList("folder" + Utils.PATH_SEPARATOR), 4),
+            arguments("**/*", Collections.singletonList("%two_letters_code%" + Utils.PATH_SEPARATOR), 3),
+            arguments("**/*", Collections.singletonList("%two_letters_code%" + Utils.PATH_SEPARATOR + "%original_file_name%"), 3),
+            arguments("**/*", Collections.singletonList("**" + Utils.PATH_SEPARATOR + "%file_name%.xml"), 4),
+            arguments("**/*", Collections.singletonList(Utils.PATH_SEPARATOR + "**" + Utils.PATH_SEPARATOR + "folder"), 4),
+            arguments("*", Collections.singletonList("*.txt"), 1)
+        );
+    }
+
     @ParameterizedTest
     @MethodSource
     public void testContainsParameter(String sourcePattern, boolean expected) {
@@ -0,0 +1,93 @@
+package com.crowdin.cli.commands.functionality;
+
+import com.crowdin.cli.WorkWithProjectTestPart;
+import com.crowdin.cli.client.Client;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class StorageCacheTest extends WorkWithProjectTestPart {
+
+    @Test
+    public void testSameContentIsUploadedOnce() throws IOException {
+        File first = tempProject.addFile("first/strings.xml", "Hello, World!");
+        File second = tempProject.addFile("second/strings.xml", "Hello, World!");
+        Client client = mock(Client.class);
+        when(client.uploadStorage(eq("strings.xml"), any()))
+            .thenReturn(1L);
+        StorageCache storageCache = new StorageCache(client);
+
+        assertEquals(1L, storageCache.uploadStorage("strings.xml", first));
+        assertEquals(1L, storageCache.uploadStorage("strings.xml", second));
+
+        verify(client).uploadStorage(eq("strings.xml"), any());
+        verifyNoMoreInteractions(client);
+    }
+
+    @Test
+    public void testDifferentContentOrNameIsUploaded() throws IOException {
+        File first = tempProject.addFile("first/strings.xml", "Hello, World!");
+        File second = tempProject.addFile("second/strings.xml", "Hello, Crowdin!");
+        Client client = mock(Client.class);
+        when(client.uploadStorage(any(), any()))
+            .thenReturn(1L)
+            .thenReturn(2L)
+            .thenReturn(3L);
+        StorageCache storageCache = new StorageCache(client);
+
+        assertEquals(1L, storageCache.uploadStorage("strings.xml", first));
+        assertEquals(2L, storageCache.uploadStorage("strings.xml", second));
+        assertEquals(3L, storageCache.uploadStorage("other.xml", first));
+
+        verify(client, times(2)).uploadStorage(eq("strings.xml"), any());
+        verify(client).uploadStorage(eq("other.xml"), any());
+        verifyNoMoreInteractions(client);
+    }
+
+    @Test
+    public void testExpiredStorageIsUploadedAgain() throws IOException {
+        File file = tempProject.addFile("strings.xml", "Hello, World!");
+        Client client = mock(Client.class);
+        when(client.uploadStorage(eq("strings.xml"), any()))
+            .thenReturn(1L)
+            .thenReturn(2L);
+        AtomicLong now = new AtomicLong(0);
+        StorageCache storageCache = new StorageCache(client, now::get);
+
+        assertEquals(1L, storageCache.uploadStorage("strings.xml", file));
+        now.set(StorageCache.STORAGE_TTL_MILLIS + 1);
+        assertEquals(2L, storageCache.uploadStorage("strings.xml", file));
+        assertEquals(2L, storageCache.uploadStorage("strings.xml", file));
+
+        verify(client, times(2)).uploadStorage(eq("strings.xml"), any());
+        verifyNoMoreInteractions(client);
+    }
+
+    @Test
+    public void testFailedUploadIsNotCached() throws IOException {
+        File file = tempProject.addFile("strings.xml", "Hello, World!");
+        Client client = mock(Client.class);
+        when(client.uploadStorage(eq("strings.xml"), any()))
+            .thenThrow(new RuntimeException("Whoops"))
+            .thenReturn(1L);
+        StorageCache storageCache = new StorageCache(client);
+
+        assertThrows(RuntimeException.class, () -> storageCache.uploadStorage("strings.xml", file));
+        assertEquals(1L, storageCache.uploadStorage("strings.xml", file));
+
+        verify(client, times(2)).uploadStorage(eq("strings.xml"), any());
+        verifyNoMoreInteractions(client);
+    }
+}
@@ -2,7 +2,9 @@ package com.crowdin.cli.commands.picocli;
 
 import org.junit.jupiter.api.Test;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
 public class GlossaryListSubcommandTest extends PicocliTestUtils {
@@ -11,7 +13,20 @@ public class GlossaryListSubcommandTest extends PicocliTestUtils {
     public void testGlossaryList() {
         this.execute(CommandNames.GLOSSARY, CommandNames.GLOSSARY_LIST);
         verify(actionsMock)
-            .glossaryList(anyBoolean(), anyBoolean());
+            .glossaryList(anyBoolean(), anyBoolean(), any());
         check(true);
     }
+
+    @Test
+    public void testGlossaryListWithLimit() {
+        this.execute(CommandNames.GLOSSARY, CommandNames.GLOSSARY_LIST, "--verbose", "--limit", "10");
+        verify(actionsMock)
+            .glossaryList(anyBoolean(), anyBoolean(), eq(10));
+        check(true);
+    }
+
+    @Test
+    public void testGlossaryList_invalid_limit() {
+        this.executeInvalidParams(CommandNames.GLOSSARY, CommandNames.GLOSSARY_LIST, "--limit", "0");
+    }
 }
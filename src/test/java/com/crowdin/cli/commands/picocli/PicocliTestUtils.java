@@ -90,11 +90,13 @@ public class PicocliTestUtils {
             .thenReturn(clientActionMock);
         when(actionsMock.stringList(anyBoolean(), anyBoolean(), any(), any()))
             .thenReturn(clientActionMock);
+        when(actionsMock.stringImport(anyBoolean(), any()))
+            .thenReturn(clientActionMock);
         when(actionsMock.uploadSources(any(), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean()))
             .thenReturn(clientActionMock);
         when(actionsMock.uploadTranslations(anyBoolean(), any(), any(), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean()))
             .thenReturn(clientActionMock);
-        when(actionsMock.glossaryList(anyBoolean(), anyBoolean()))
+        when(actionsMock.glossaryList(anyBoolean(), anyBoolean(), any()))
             .thenReturn(clientActionMock);
         when(actionsMock.glossaryUpload(any(), any(), any(), any(), any()))
             .thenReturn(clientActionMock);
@@ -0,0 +1,29 @@
+package com.crowdin.cli.commands.picocli;
+
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.verify;
+
+public class StringImportSubcommandTest extends PicocliTestUtils {
+
+    @Test
+    public void testStringImport() {
+        this.execute(CommandNames.STRING, CommandNames.STRING_IMPORT, getClass().getClassLoader().getResource("file.csv").getFile());
+        verify(actionsMock)
+            .stringImport(anyBoolean(), any());
+        this.check(true);
+    }
+
+    @Test
+    public void testStringImport_invalid_fileNotExists() {
+        this.executeInvalidParams(CommandNames.STRING, CommandNames.STRING_IMPORT, "file.not.exist.csv");
+    }
+
+    @Test
+    public void testStringImport_invalid_fileWrongExt() {
+        this.executeInvalidParams(CommandNames.STRING, CommandNames.STRING_IMPORT,
+            getClass().getClassLoader().getResource("file.txt").getFile());
+    }
+}
@@ -23,4 +23,4 @@ public class StringListSubcommandTest extends PicocliTestUtils {
             .stringList(anyBoolean(), anyBoolean(), any(), any());
         this.check(true);
     }
-}
\ No newline at end of file
+}
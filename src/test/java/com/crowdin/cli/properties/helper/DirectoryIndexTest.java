@@ -0,0 +1,96 @@
+package com.crowdin.cli.properties.helper;
+
+import com.crowdin.cli.utils.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DirectoryIndexTest {
+
+    private TempProject project;
+
+    @BeforeEach
+    public void createProj() {
+        project = new TempProject(DirectoryIndexTest.class);
+    }
+
+    @AfterEach
+    public void deleteProj() {
+        project.delete();
+    }
+
+    @Test
+    public void testIsFileAndIsDirectory() {
+        project.addFile(Utils.normalizePath("f1/a.txt"));
+        DirectoryIndex directoryIndex = new DirectoryIndex();
+
+        assertTrue(directoryIndex.isDirectory(new File(project.getBasePath() + "f1")));
+        assertFalse(directoryIndex.isFile(new File(project.getBasePath() + "f1")));
+        assertTrue(directoryIndex.isFile(new File(project.getBasePath() + Utils.normalizePath("f1/a.txt"))));
+        assertFalse(directoryIndex.isDirectory(new File(project.getBasePath() + "non_existent_folder")));
+        assertFalse(directoryIndex.isFile(new File(project.getBasePath() + "non_existent_file.txt")));
+    }
+
+    @Test
+    public void testDirectoryIsReadOnce() {
+        project.addFile(Utils.normalizePath("f1/a.txt"));
+        DirectoryIndex directoryIndex = new DirectoryIndex();
+        File directory = new File(project.getBasePath() + "f1");
+
+        List<File> before = directoryIndex.list(directory).stream()
+            .map(DirectoryIndex.Entry::getFile)
+            .collect(Collectors.toList());
+        project.addFile(Utils.normalizePath("f1/b.txt"));
+        List<File> after = directoryIndex.list(directory).stream()
+            .map(DirectoryIndex.Entry::getFile)
+            .collect(Collectors.toList());
+
+        assertEquals(1, before.size());
+        assertEquals(before, after);
+    }
+
+    @Test
+    public void testWalk() {
+        project.addFile(Utils.normalizePath("a.txt"));
+        project.addFile(Utils.normalizePath("f1/in1/a.txt"));
+        project.addFile(Utils.normalizePath("f1/in2/a.txt"));
+        project.addFile(Utils.normalizePath("f2/a.txt"));
+        DirectoryIndex directoryIndex = new DirectoryIndex();
+        File root = new File(project.getBasePath());
+
+        List<File> result = directoryIndex.walk(root);
+
+        assertEquals(new HashSet<>(Arrays.asList(
+            root,
+            new File(project.getBasePath() + "f1"),
+            new File(project.getBasePath() + Utils.normalizePath("f1/in1")),
+            new File(project.getBasePath() + Utils.normalizePath("f1/in2")),
+            new File(project.getBasePath() + "f2"))), new HashSet<>(result));
+        assertEquals(5, result.size());
+    }
+
+    @Test
+    public void testSharedIndexResolvesSameFiles() {
+        project.addFile(Utils.normalizePath("f1/a.txt"));
+        project.addFile(Utils.normalizePath("f1/in1/a.xml"));
+        project.addFile(Utils.normalizePath("f2/a.txt"));
+        DirectoryIndex directoryIndex = new DirectoryIndex();
+
+        for (String source : new String[] {"**/*.txt", "**/*.xml", Utils.normalizePath("f?/**/*"), "*"}) {
+            assertEquals(
+                new HashSet<>(new FileHelper(project.getBasePath()).getFiles(source)),
+                new HashSet<>(new FileHelper(project.getBasePath(), directoryIndex).getFiles(source)),
+                "(source: " + source + ")");
+        }
+    }
+}
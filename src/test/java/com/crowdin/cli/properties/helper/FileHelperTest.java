@@ -12,6 +12,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -97,6 +98,60 @@ public class FileHelperTest {
         assertEquals(filesExpected.size(), result.size(), "(source: " + source + ") Lists sizes are not equal");
     }
 
+    @ParameterizedTest
+    @MethodSource
+    public void testFilterOutIgnoredFiles(List<String> ignores, List<String> expected) {
+        allFiles.forEach(project::addFile);
+        FileHelper fileHelper = new FileHelper(project.getBasePath());
+        List<File> sources = allFiles.stream().map(f -> new File(project.getBasePath() + f)).collect(Collectors.toList());
+        List<File> filesExpected = expected.stream().map(f -> new File(project.getBasePath() + f)).collect(Collectors.toList());
+
+        List<File> result = fileHelper.filterOutIgnoredFiles(sources, ignores);
+
+        assertEquals(new HashSet<>(filesExpected), new HashSet<>(result), "(ignores: " + ignores + ")");
+    }
+
+    static Stream<Arguments> testFilterOutIgnoredFiles() {
+        return Stream.of(
+            arguments(Collections.singletonList(f1a), Arrays.asList(a, ax, f1ax, f11a, f11ax, f2a, f2ax, f21a, f21ax)),
+            arguments(Collections.singletonList(Utils.normalizePath("/f1/a.txt")), Arrays.asList(a, ax, f1ax, f11a, f11ax, f2a, f2ax, f21a, f21ax)),
+            arguments(Collections.singletonList(f1), Arrays.asList(a, ax, f2a, f2ax, f21a, f21ax)),
+            arguments(Collections.singletonList(Utils.normalizePath("f2/in1")), Arrays.asList(a, ax, f1a, f1ax, f11a, f11ax, f2a, f2ax)),
+            arguments(Collections.singletonList(Utils.normalizePath("f?/*.txt")), Arrays.asList(a, ax, f1ax, f11a, f11ax, f2ax, f21a, f21ax)),
+            arguments(Arrays.asList(a, Utils.normalizePath("**/*.xml")), Arrays.asList(f1a, f11a, f2a, f21a)),
+            arguments(Collections.singletonList(Utils.normalizePath("**/in1")), Arrays.asList(a, ax, f1a, f1ax, f2a, f2ax))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void testGetFilesWithIgnoredDirectories(String source, List<String> ignores, List<String> expected) {
+        allFiles.forEach(project::addFile);
+        FileHelper fileHelper = new FileHelper(project.getBasePath());
+        List<File> filesExpected = expected.stream().map(f -> new File(project.getBasePath() + f)).collect(Collectors.toList());
+
+        List<File> result = fileHelper.getFiles(source, ignores);
+
+        assertEquals(new HashSet<>(filesExpected), new HashSet<>(result), "(source: " + source + ", ignores: " + ignores + ")");
+    }
+
+    static Stream<Arguments> testGetFilesWithIgnoredDirectories() {
+        return Stream.of(
+            arguments(Utils.normalizePath("**/*"), Collections.singletonList("f1"), Arrays.asList(a, ax, f2, f2a, f2ax, f21, f21a, f21ax)),
+            arguments(Utils.normalizePath("**/*"), Collections.singletonList(Utils.normalizePath("f2/in1")), Arrays.asList(a, ax, f1, f1a, f1ax, f11, f11a, f11ax, f2, f2a, f2ax)),
+            arguments(Utils.normalizePath("f?/**/*.txt"), Arrays.asList("f1", "f2"), Collections.EMPTY_LIST),
+            arguments(Utils.normalizePath("**/*.txt"), Collections.singletonList("a.txt"), Arrays.asList(a, f1a, f11a, f2a, f21a)),
+            arguments(Utils.normalizePath("**/*.txt"), Collections.singletonList("f?"), Arrays.asList(a, f1a, f11a, f2a, f21a)),
+            arguments(Utils.normalizePath("**/*"), Collections.singletonList(Utils.normalizePath("/**/in1")),
+                Arrays.asList(a, ax, f1, f1a, f1ax, f2, f2a, f2ax)),
+            arguments(Utils.normalizePath("**/*"), Collections.singletonList(Utils.normalizePath("f?/in1/")),
+                Arrays.asList(a, ax, f1, f1a, f1ax, f2, f2a, f2ax)),
+            arguments(Utils.normalizePath("**/*"), Collections.singletonList(Utils.normalizePath("**/f1")),
+                Arrays.asList(a, ax, f2, f2a, f2ax, f21, f21a, f21ax)),
+            arguments(Utils.normalizePath("*/in1/*"), Collections.singletonList(Utils.normalizePath("**/in1")), Collections.EMPTY_LIST)
+        );
+    }
+
     static Stream<Arguments> testGetFiles() {
         return Stream.of(
             arguments(allFiles, Utils.normalizePath("**/*"), all),
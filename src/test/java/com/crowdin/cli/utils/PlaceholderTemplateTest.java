@@ -0,0 +1,41 @@
+package com.crowdin.cli.utils;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+public class PlaceholderTemplateTest {
+
+    private static final List<String> PLACEHOLDERS = Arrays.asList("%locale%", "%locale_with_underscore%", "%two_letters_code%");
+
+    private static final String[] VALUES = new String[] {"uk-UA", "uk_UA", "uk"};
+
+    @ParameterizedTest
+    @MethodSource
+    public void testRender(String pattern, String expected, boolean hasPlaceholders) {
+        PlaceholderTemplate template = PlaceholderTemplate.parse(pattern, PLACEHOLDERS);
+
+        assertEquals(expected, template.render(VALUES));
+        assertEquals(hasPlaceholders, template.hasPlaceholders());
+    }
+
+    static Stream<Arguments> testRender() {
+        return Stream.of(
+            arguments("", "", false),
+            arguments("/values/strings.xml", "/values/strings.xml", false),
+            arguments("/%locale%/strings.xml", "/uk-UA/strings.xml", true),
+            arguments("%locale_with_underscore%-%locale%.%two_letters_code%", "uk_UA-uk-UA.uk", true),
+            arguments("%two_letters_code%%two_letters_code%", "ukuk", true),
+            arguments("%unknown%locale%", "%unknownuk-UA", true),
+            arguments("%%locale%%", "%uk-UA%", true),
+            arguments("%locale", "%locale", false)
+        );
+    }
+}
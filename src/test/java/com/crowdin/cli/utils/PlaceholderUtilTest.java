@@ -65,10 +65,50 @@ public class PlaceholderUtilTest {
                 new File[] {new File("resources/messages.xml")},
                 Utils.normalizePath("/**/%two_letters_code%_%original_file_name%"),
                 new String[] {Utils.normalizePath("resources/en_messages.xml")}
+            ),
+            arguments(// Double asterisks depend only on the directory of the source
+                new Language[] {LanguageBuilder.ENG.build(), LanguageBuilder.DEU.build()},
+                new Language[] {LanguageBuilder.ENG.build(), LanguageBuilder.DEU.build()},
+                new File[] {new File("resources/messages.xml"), new File("resources/strings.xml"), new File("other/messages.xml")},
+                Utils.normalizePath("/**/*.bak"),
+                new String[] {Utils.normalizePath("resources/*.bak"), Utils.normalizePath("other/*.bak")}
+            ),
+            arguments(// Without placeholders the pattern is the same for all sources
+                new Language[] {LanguageBuilder.ENG.build(), LanguageBuilder.DEU.build()},
+                new Language[] {LanguageBuilder.ENG.build(), LanguageBuilder.DEU.build()},
+                new File[] {new File("resources/messages.xml"), new File("other/messages.xml")},
+                Utils.normalizePath("/node_modules"),
+                new String[] {Utils.normalizePath("node_modules")}
             )
         );
     }
 
+    @Test
+    public void testFormatWithoutSources() {
+        PlaceholderUtil placeholderUtil = new PlaceholderUtil(
+            Arrays.asList(LanguageBuilder.UKR.build(), LanguageBuilder.RUS.build()),
+            Arrays.asList(LanguageBuilder.UKR.build()),
+            "/proj/path/"
+        );
+
+        assertEquals(
+            new HashSet<>(Arrays.asList(Utils.normalizePath("resources/ua"), Utils.normalizePath("resources/ru"))),
+            placeholderUtil.format(Utils.normalizePath("/resources//%two_letters_code%"), false));
+        assertEquals(
+            new HashSet<>(Arrays.asList(Utils.normalizePath("resources/ua"))),
+            placeholderUtil.format(Utils.normalizePath("/resources//%two_letters_code%"), true));
+        assertThrows(IllegalArgumentException.class,
+            () -> placeholderUtil.format(Utils.normalizePath("/**/%original_file_name%"), false));
+    }
+
+    @Test
+    public void testContainsFileDependentPlaceholders() {
+        assertEquals(false, PlaceholderUtil.containsFileDependentPlaceholders(Utils.normalizePath("/node_modules")));
+        assertEquals(false, PlaceholderUtil.containsFileDependentPlaceholders(Utils.normalizePath("/%two_letters_code%/*.xml")));
+        assertEquals(true, PlaceholderUtil.containsFileDependentPlaceholders(Utils.normalizePath("/**/*.xml")));
+        assertEquals(true, PlaceholderUtil.containsFileDependentPlaceholders(Utils.normalizePath("/resources/%file_name%.xml")));
+    }
+
     @ParameterizedTest
     @MethodSource
     public void testMainFunctionalityWithLists(
@@ -154,4 +194,16 @@ public class PlaceholderUtilTest {
         String result = placeholderUtil.replaceLanguageDependentPlaceholders(toFormat, languageMapping, language);
         assertEquals(expected, result);
     }
+
+    @Test
+    public void testReplaceLanguageDependentPlaceholdersTemplate() {
+        PlaceholderTemplate template = PlaceholderUtil.parseLanguagePlaceholders("path/to/%two_letters_code%/%language%/%file_name%");
+        List<Language> langs = Arrays.asList(LanguageBuilder.RUS.build(), LanguageBuilder.UKR.build());
+        PlaceholderUtil placeholderUtil = new PlaceholderUtil(langs, langs, "");
+
+        assertEquals("path/to/ru/Russian/%file_name%", placeholderUtil.replaceLanguageDependentPlaceholders(
+            template, LanguageMapping.fromServerLanguageMapping(null), LanguageBuilder.RUS.build()));
+        assertEquals("path/to/ua/Ukrainian/%file_name%", placeholderUtil.replaceLanguageDependentPlaceholders(
+            template, LanguageMapping.fromServerLanguageMapping(null), LanguageBuilder.UKR.build()));
+    }
 }
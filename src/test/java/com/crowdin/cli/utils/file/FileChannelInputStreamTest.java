@@ -0,0 +1,52 @@
+package com.crowdin.cli.utils.file;
+
+import com.crowdin.cli.WorkWithProjectTestPart;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FileChannelInputStreamTest extends WorkWithProjectTestPart {
+
+    @Test
+    public void testReadsWholeFile() throws IOException {
+        byte[] content = new byte[200 * 1024 + 17];
+        new Random(42).nextBytes(content);
+        File file = tempProject.addFile("big.bin");
+        Files.write(file.toPath(), content);
+
+        try (FileChannelInputStream stream = new FileChannelInputStream(file)) {
+            assertEquals(content.length, stream.length());
+            assertArrayEquals(content, IOUtils.toByteArray(stream));
+        }
+    }
+
+    @Test
+    public void testReadSingleBytes() throws IOException {
+        File file = tempProject.addFile("small.txt", "ab");
+
+        try (InputStream stream = new FileChannelInputStream(file)) {
+            assertEquals('a', stream.read());
+            assertEquals('b', stream.read());
+            assertEquals('\n', stream.read());
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        File file = tempProject.addFile("empty.txt");
+
+        try (FileChannelInputStream stream = new FileChannelInputStream(file)) {
+            assertEquals(0, stream.length());
+            assertEquals(-1, stream.read(new byte[8], 0, 8));
+        }
+    }
+}